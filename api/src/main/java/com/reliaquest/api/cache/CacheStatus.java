@@ -0,0 +1,71 @@
+package com.reliaquest.api.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Which {@link EmployeeSnapshot} a request was answered from, reported to the caller as {@code Age} (seconds since the
+ * roster was loaded) and an RFC 9211 {@code Cache-Status} whose {@code ttl} turns negative once the roster is stale,
+ * with {@code detail=stale-if-error} when it was served because a refresh failed. Servlet requests carry it as a
+ * request attribute, reactive requests in the Reactor context.
+ */
+public final class CacheStatus {
+
+    public static final String HEADER = "Cache-Status";
+
+    static final String CACHE_NAME = "employee-api";
+
+    private static final String KEY = CacheStatus.class.getName();
+
+    private volatile EmployeeSnapshot snapshot;
+
+    private volatile Duration ttl;
+
+    private volatile boolean staleOnError;
+
+    /** The status of the current servlet request, or null off a request thread or if none was recorded and not asked to create one. */
+    static CacheStatus ofCurrentRequest(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object status = attributes.getAttribute(KEY, RequestAttributes.SCOPE_REQUEST);
+        if (status == null && create) {
+            status = new CacheStatus();
+            attributes.setAttribute(KEY, status, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (CacheStatus) status;
+    }
+
+    public static Context bind(Context context, CacheStatus status) {
+        return context.put(KEY, status);
+    }
+
+    static CacheStatus from(ContextView context) {
+        return context.getOrDefault(KEY, null);
+    }
+
+    void record(EmployeeSnapshot snapshot, Duration ttl, boolean staleOnError) {
+        this.snapshot = snapshot;
+        this.ttl = ttl;
+        this.staleOnError = staleOnError;
+    }
+
+    public void writeTo(HttpHeaders headers, Instant now) {
+        EmployeeSnapshot served = snapshot;
+        if (served == null) {
+            return;
+        }
+        Duration age = Duration.between(served.getLoadedAt(), now);
+        headers.set(HttpHeaders.AGE, Long.toString(Math.max(age.toSeconds(), 0)));
+        headers.set(
+                HEADER,
+                CACHE_NAME + "; hit; ttl=" + ttl.minus(age).toSeconds()
+                        + (staleOnError ? "; detail=stale-if-error" : ""));
+    }
+}
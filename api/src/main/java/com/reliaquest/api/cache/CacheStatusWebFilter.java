@@ -0,0 +1,27 @@
+package com.reliaquest.api.cache;
+
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adds the {@link CacheStatus} headers to reactive responses answered from a roster snapshot. The headers are written
+ * just before commit, by which point the body has its first element and so the snapshot has been read.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CacheStatusWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        CacheStatus status = new CacheStatus();
+        exchange.getResponse()
+                .beforeCommit(() -> Mono.fromRunnable(
+                        () -> status.writeTo(exchange.getResponse().getHeaders(), Instant.now())));
+        return chain.filter(exchange).contextWrite(context -> CacheStatus.bind(context, status));
+    }
+}
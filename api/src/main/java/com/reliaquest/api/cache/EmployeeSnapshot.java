@@ -0,0 +1,108 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Immutable, versioned view of the upstream employee roster. A snapshot is never modified once published; refreshes
+ * build a new instance and swap it in atomically. Local writes derive the next version with {@link #withAdded} and
+ * {@link #withRemoved}, which update the per-id map and both indexes incrementally and keep the original load time.
+ */
+@Getter
+public final class EmployeeSnapshot {
+
+    private final long version;
+    private final List<Employee> employees;
+    private final Map<String, Employee> employeesById;
+    private final SalaryIndex salaryIndex;
+    private final NameIndex nameIndex;
+    private final Instant loadedAt;
+
+    private EmployeeSnapshot(long version, List<Employee> employees, Instant loadedAt) {
+        this.version = version;
+        this.employees = List.copyOf(employees);
+        this.loadedAt = loadedAt;
+
+        Map<String, Employee> byId = new HashMap<>(this.employees.size() * 2);
+        for (Employee employee : this.employees) {
+            if (employee.getId() != null) {
+                byId.putIfAbsent(employee.getId(), employee);
+            }
+        }
+        this.employeesById = Collections.unmodifiableMap(byId);
+        this.salaryIndex = SalaryIndex.of(this.employees);
+        this.nameIndex = NameIndex.of(this.employees);
+    }
+
+    private EmployeeSnapshot(
+            long version,
+            List<Employee> employees,
+            Map<String, Employee> employeesById,
+            SalaryIndex salaryIndex,
+            NameIndex nameIndex,
+            Instant loadedAt) {
+        this.version = version;
+        this.employees = employees;
+        this.employeesById = employeesById;
+        this.salaryIndex = salaryIndex;
+        this.nameIndex = nameIndex;
+        this.loadedAt = loadedAt;
+    }
+
+    public static EmployeeSnapshot of(long version, List<Employee> employees, Instant loadedAt) {
+        return new EmployeeSnapshot(version, employees == null ? List.of() : employees, loadedAt);
+    }
+
+    /** Next version with the employee added, replacing any held employee with the same id. */
+    public EmployeeSnapshot withAdded(Employee employee, long nextVersion) {
+        EmployeeSnapshot base = employee.getId() == null ? this : withRemoved(employee, version);
+        List<Employee> nextEmployees = new ArrayList<>(base.employees.size() + 1);
+        nextEmployees.addAll(base.employees);
+        nextEmployees.add(employee);
+        Map<String, Employee> nextById = new HashMap<>(base.employeesById);
+        if (employee.getId() != null) {
+            nextById.put(employee.getId(), employee);
+        }
+        return new EmployeeSnapshot(
+                nextVersion,
+                Collections.unmodifiableList(nextEmployees),
+                Collections.unmodifiableMap(nextById),
+                base.salaryIndex.withAdded(employee),
+                base.nameIndex.withAdded(employee),
+                loadedAt);
+    }
+
+    /** Next version without the employee with this id, or this snapshot if it holds no such employee. */
+    public EmployeeSnapshot withRemoved(Employee employee, long nextVersion) {
+        Employee held = employeesById.get(employee.getId());
+        if (held == null) {
+            return this;
+        }
+        List<Employee> nextEmployees = new ArrayList<>(employees.size());
+        for (Employee candidate : employees) {
+            if (candidate != held) {
+                nextEmployees.add(candidate);
+            }
+        }
+        Map<String, Employee> nextById = new HashMap<>(employeesById);
+        nextById.remove(held.getId());
+        return new EmployeeSnapshot(
+                nextVersion,
+                Collections.unmodifiableList(nextEmployees),
+                Collections.unmodifiableMap(nextById),
+                salaryIndex.withRemoved(held),
+                nameIndex.withRemoved(held),
+                loadedAt);
+    }
+
+    public boolean isExpired(Duration ttl, Instant now) {
+        return !loadedAt.plus(ttl).isAfter(now);
+    }
+}
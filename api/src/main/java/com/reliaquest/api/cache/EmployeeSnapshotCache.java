@@ -0,0 +1,359 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.util.SingleFlight;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Holds the current {@link EmployeeSnapshot} and replaces it once it is older than the configured TTL. Readers never
+ * block on a fresh snapshot; only one thread at a time performs a reload while the others wait for its result.
+ *
+ * <p>Creates and deletes are written through: {@link #applyCreated} and {@link #applyDeleted} derive the next snapshot
+ * version from the current one instead of discarding it. Writes that land while a reload is in flight are also
+ * replayed onto the reloaded roster, since the upstream may have answered before seeing them.
+ *
+ * <p>Past its TTL a snapshot is still served for {@code stale-while-revalidate} while one background reload replaces
+ * it. Past that, reads wait on a single shared reload. Only once a reload has failed is the snapshot served as
+ * stale-on-error, for as long as it is within {@code stale-if-error}: later reads get it straight away while at most
+ * one background reload retries, and no new one starts for {@code error-backoff} after each failure, so a struggling
+ * upstream is not asked again on every read. Which snapshot answered a request is recorded in its
+ * {@link CacheStatus}.
+ */
+@Component
+@Slf4j
+public class EmployeeSnapshotCache {
+
+    private static final String RELOAD_KEY = "snapshot";
+
+    private final AtomicReference<EmployeeSnapshot> current = new AtomicReference<>();
+
+    private final AtomicLong versions = new AtomicLong();
+
+    /** A lock rather than a monitor so a blocking reload does not pin a virtual thread's carrier. */
+    private final Lock reloadLock = new ReentrantLock();
+
+    private final SingleFlight<String, EmployeeSnapshot> reloadFlight = new SingleFlight<>();
+
+    /** Guards {@link #current} updates and the write log; held only for in-memory work, never for an upstream call. */
+    private final Lock writeLock = new ReentrantLock();
+
+    private final List<Write> writesDuringReload = new ArrayList<>();
+
+    private int reloadsInFlight;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    /** When the last reload failed, or null once one has succeeded since. */
+    private volatile Instant lastFailure;
+
+    @Value("${custom.cache.employees.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${custom.cache.employees.stale-while-revalidate:30s}")
+    private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+
+    @Value("${custom.cache.employees.stale-if-error:5m}")
+    private Duration staleIfError = Duration.ofMinutes(5);
+
+    @Value("${custom.cache.employees.error-backoff:5s}")
+    private Duration errorBackoff = Duration.ofSeconds(5);
+
+    public EmployeeSnapshot getOrLoad(Supplier<List<Employee>> loader) {
+        EmployeeSnapshot snapshot = current.get();
+        if (isFresh(snapshot)) {
+            return served(CacheStatus.ofCurrentRequest(true), snapshot, false);
+        }
+        if (isWithin(snapshot, staleWhileRevalidate)) {
+            refreshInBackground(loader);
+            return served(CacheStatus.ofCurrentRequest(true), snapshot, false);
+        }
+        if (isServableOnError(snapshot)) {
+            refreshInBackground(loader);
+            return served(CacheStatus.ofCurrentRequest(true), snapshot, true);
+        }
+        reloadLock.lock();
+        try {
+            snapshot = current.get();
+            if (isFresh(snapshot)) {
+                return served(CacheStatus.ofCurrentRequest(true), snapshot, false);
+            }
+            if (isServableOnError(snapshot)) {
+                return served(CacheStatus.ofCurrentRequest(true), snapshot, true);
+            }
+            try {
+                return served(CacheStatus.ofCurrentRequest(true), reload(loader), false);
+            } catch (RuntimeException ex) {
+                if (!isWithin(snapshot, staleIfError)) {
+                    throw ex;
+                }
+                log.warn(
+                        "getOrLoad- Reload failed, serving snapshot version {} stale-if-error: {}",
+                        snapshot.getVersion(),
+                        ex.toString());
+                return served(CacheStatus.ofCurrentRequest(true), snapshot, true);
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #getOrLoad(Supplier)}. Concurrent subscribers that find the snapshot stale share
+     * one reload.
+     */
+    public Mono<EmployeeSnapshot> getOrLoadAsync(Supplier<Mono<List<Employee>>> loader) {
+        return Mono.deferContextual(context -> {
+            CacheStatus status = CacheStatus.from(context);
+            EmployeeSnapshot snapshot = current.get();
+            if (isFresh(snapshot)) {
+                return Mono.just(served(status, snapshot, false));
+            }
+            Mono<EmployeeSnapshot> reload = reloadFlight.execute(
+                    RELOAD_KEY,
+                    () -> Mono.defer(() -> {
+                        int writesSeen = beginReload();
+                        return loader.get()
+                                .defaultIfEmpty(List.of())
+                                .map(employees -> publish(employees, writesSeen))
+                                .doOnError(ex -> {
+                                    lastFailure = Instant.now();
+                                    endReload();
+                                })
+                                .doOnCancel(this::endReload);
+                    }));
+            boolean withinRevalidate = isWithin(snapshot, staleWhileRevalidate);
+            if (withinRevalidate || isServableOnError(snapshot)) {
+                if (!isBackingOff()) {
+                    reload.subscribe(
+                            null,
+                            ex -> log.warn(
+                                    "refresh- Background refresh failed, still serving snapshot version {}: {}",
+                                    snapshot.getVersion(),
+                                    ex.toString()));
+                }
+                return Mono.just(served(status, snapshot, !withinRevalidate));
+            }
+            return reload.map(reloaded -> served(status, reloaded, false))
+                    .onErrorResume(ex -> isWithin(snapshot, staleIfError), ex -> {
+                        log.warn(
+                                "getOrLoadAsync- Reload failed, serving snapshot version {} stale-if-error: {}",
+                                snapshot.getVersion(),
+                                ex.toString());
+                        return Mono.just(served(status, snapshot, true));
+                    });
+        });
+    }
+
+    public Optional<EmployeeSnapshot> getIfFresh() {
+        EmployeeSnapshot snapshot = current.get();
+        return isFresh(snapshot) ? Optional.of(snapshot) : Optional.empty();
+    }
+
+    /**
+     * The employee with {@code id} in the current snapshot, if it is still within {@code stale-if-error}; for when
+     * looking the employee up upstream failed. The request's {@link CacheStatus} records the snapshot as served on
+     * error.
+     */
+    public Optional<Employee> getIfStaleOnError(String id) {
+        return findStaleOnError(CacheStatus.ofCurrentRequest(true), id);
+    }
+
+    /** Non-blocking variant of {@link #getIfStaleOnError(String)}. */
+    public Mono<Employee> getIfStaleOnErrorAsync(String id) {
+        return Mono.deferContextual(context -> Mono.justOrEmpty(findStaleOnError(CacheStatus.from(context), id)));
+    }
+
+    /** Employees in the current snapshot, fresh or not; 0 before the first load. */
+    public int size() {
+        EmployeeSnapshot snapshot = current.get();
+        return snapshot == null ? 0 : snapshot.getEmployees().size();
+    }
+
+    /** Employees in the current snapshot's salary index, fresh or not; 0 before the first load. */
+    public int salaryIndexSize() {
+        EmployeeSnapshot snapshot = current.get();
+        return snapshot == null ? 0 : snapshot.getSalaryIndex().size();
+    }
+
+    public void invalidate() {
+        current.set(null);
+    }
+
+    public void applyCreated(Employee employee) {
+        apply(new Write(employee, false));
+    }
+
+    public void applyDeleted(Employee employee) {
+        apply(new Write(employee, true));
+    }
+
+    private void apply(Write write) {
+        if (write.employee() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (reloadsInFlight > 0) {
+                writesDuringReload.add(write);
+            }
+            EmployeeSnapshot snapshot = current.get();
+            if (snapshot != null) {
+                EmployeeSnapshot next = write.applyTo(snapshot, versions.incrementAndGet());
+                current.set(next);
+                log.info("apply- Wrote through {} to snapshot version {}", write, next.getVersion());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * At most one background refresh at a time, and none for {@code error-backoff} after one failed; readers keep
+     * getting the current snapshot meanwhile.
+     */
+    private void refreshInBackground(Supplier<List<Employee>> loader) {
+        if (isBackingOff() || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Schedulers.boundedElastic().schedule(() -> {
+            reloadLock.lock();
+            try {
+                EmployeeSnapshot snapshot = current.get();
+                if (!isFresh(snapshot)) {
+                    try {
+                        reload(loader);
+                    } catch (RuntimeException ex) {
+                        log.warn(
+                                "refresh- Background refresh failed, still serving snapshot version {}: {}",
+                                snapshot == null ? null : snapshot.getVersion(),
+                                ex.toString());
+                    }
+                }
+            } finally {
+                reloadLock.unlock();
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private EmployeeSnapshot reload(Supplier<List<Employee>> loader) {
+        int writesSeen = beginReload();
+        List<Employee> employees;
+        try {
+            employees = loader.get();
+        } catch (RuntimeException ex) {
+            lastFailure = Instant.now();
+            endReload();
+            throw ex;
+        }
+        return publish(employees, writesSeen);
+    }
+
+    private Optional<Employee> findStaleOnError(CacheStatus status, String id) {
+        EmployeeSnapshot snapshot = current.get();
+        if (!isWithin(snapshot, staleIfError)) {
+            return Optional.empty();
+        }
+        Optional<Employee> employee =
+                Optional.ofNullable(snapshot.getEmployeesById().get(id));
+        employee.ifPresent(ignored -> served(status, snapshot, true));
+        return employee;
+    }
+
+    private EmployeeSnapshot served(CacheStatus status, EmployeeSnapshot snapshot, boolean staleOnError) {
+        if (status != null) {
+            status.record(snapshot, ttl, staleOnError);
+        }
+        return snapshot;
+    }
+
+    private int beginReload() {
+        writeLock.lock();
+        try {
+            reloadsInFlight++;
+            return writesDuringReload.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void endReload() {
+        writeLock.lock();
+        try {
+            if (--reloadsInFlight == 0) {
+                writesDuringReload.clear();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private EmployeeSnapshot publish(List<Employee> employees, int writesSeen) {
+        EmployeeSnapshot loaded = EmployeeSnapshot.of(versions.incrementAndGet(), employees, Instant.now());
+        writeLock.lock();
+        try {
+            EmployeeSnapshot published = loaded;
+            for (Write write : writesDuringReload.subList(writesSeen, writesDuringReload.size())) {
+                published = write.applyTo(published, versions.incrementAndGet());
+            }
+            current.set(published);
+            lastFailure = null;
+            if (--reloadsInFlight == 0) {
+                writesDuringReload.clear();
+            }
+            log.info(
+                    "publish- Loaded employee snapshot version {} with {} employees",
+                    published.getVersion(),
+                    published.getEmployees().size());
+            return published;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Past {@code stale-while-revalidate} a snapshot is only served stale once a reload has actually failed. */
+    private boolean isServableOnError(EmployeeSnapshot snapshot) {
+        return lastFailure != null && isWithin(snapshot, staleIfError);
+    }
+
+    private boolean isBackingOff() {
+        Instant failedAt = lastFailure;
+        return failedAt != null && failedAt.plus(errorBackoff).isAfter(Instant.now());
+    }
+
+    private boolean isFresh(EmployeeSnapshot snapshot) {
+        return snapshot != null && !snapshot.isExpired(ttl, Instant.now());
+    }
+
+    /** Whether a stale snapshot is still within {@code window} past its TTL. */
+    private boolean isWithin(EmployeeSnapshot snapshot, Duration window) {
+        return snapshot != null && !snapshot.isExpired(ttl.plus(window), Instant.now());
+    }
+
+    private record Write(Employee employee, boolean deleted) {
+
+        EmployeeSnapshot applyTo(EmployeeSnapshot snapshot, long version) {
+            return deleted ? snapshot.withRemoved(employee, version) : snapshot.withAdded(employee, version);
+        }
+
+        @Override
+        public String toString() {
+            return (deleted ? "delete of " : "create of ") + employee.getId();
+        }
+    }
+}
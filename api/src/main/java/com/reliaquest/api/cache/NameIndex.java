@@ -0,0 +1,185 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Case-folded trigram inverted index over employee names. Every name is split into its overlapping three-character
+ * grams, and each gram maps to the ascending positions of the employees whose name contains it. A substring query
+ * intersects the posting lists of its own grams, then confirms each candidate with
+ * {@link StringUtils#containsIgnoreCase}, so only employees sharing every gram of the query are looked at. Queries
+ * shorter than a gram fall back to a scan.
+ *
+ * <p>Instances are immutable. {@link #withAdded(Employee)} appends one position, so like the rest of an
+ * {@link EmployeeSnapshot} write it copies the roster array and the gram map, O(employees + grams), but only
+ * reallocates the posting lists of the new name's grams. {@link #withRemoved(Employee)} leaves a hole at the removed
+ * position, which searches skip; once holes make up half of the positions the index is rebuilt without them, and a
+ * reloaded snapshot always starts from a fresh index with none. Results keep roster order.
+ */
+public final class NameIndex {
+
+    static final int GRAM = 3;
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final Employee[] employees;
+    private final Map<String, int[]> postings;
+    private final int holes;
+
+    private NameIndex(Employee[] employees, Map<String, int[]> postings, int holes) {
+        this.employees = employees;
+        this.postings = postings;
+        this.holes = holes;
+    }
+
+    public static NameIndex of(List<Employee> roster) {
+        Employee[] employees = roster.stream().filter(Objects::nonNull).toArray(Employee[]::new);
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (int position = 0; position < employees.length; position++) {
+            for (String gram : grams(employees[position].getEmployeeName())) {
+                builders.computeIfAbsent(gram, g -> new PostingBuilder()).add(position);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+        return new NameIndex(employees, postings, 0);
+    }
+
+    public NameIndex withAdded(Employee employee) {
+        int position = employees.length;
+        Employee[] nextEmployees = Arrays.copyOf(employees, position + 1);
+        nextEmployees[position] = employee;
+        Map<String, int[]> nextPostings = new HashMap<>(postings);
+        for (String gram : grams(employee.getEmployeeName())) {
+            int[] current = nextPostings.getOrDefault(gram, NO_POSTINGS);
+            int[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = position;
+            nextPostings.put(gram, next);
+        }
+        return new NameIndex(nextEmployees, nextPostings, holes);
+    }
+
+    public NameIndex withRemoved(Employee employee) {
+        for (int position : candidates(fold(employee.getEmployeeName()))) {
+            Employee held = employees[position];
+            if (held != null && Objects.equals(held.getId(), employee.getId())) {
+                Employee[] nextEmployees = employees.clone();
+                nextEmployees[position] = null;
+                if (2 * (holes + 1) >= nextEmployees.length) {
+                    return of(Arrays.asList(nextEmployees));
+                }
+                return new NameIndex(nextEmployees, postings, holes + 1);
+            }
+        }
+        return this;
+    }
+
+    /** Positions held, removed ones included until the next rebuild. */
+    int positions() {
+        return employees.length;
+    }
+
+    public List<Employee> search(String searchString) {
+        if (searchString == null) {
+            return List.of();
+        }
+        List<Employee> matches = new ArrayList<>();
+        for (int position : candidates(fold(searchString))) {
+            Employee employee = employees[position];
+            if (employee != null && StringUtils.containsIgnoreCase(employee.getEmployeeName(), searchString)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    /** Positions that contain every gram of the folded query; every position when the query is shorter than a gram. */
+    private int[] candidates(String folded) {
+        if (folded == null || folded.length() < GRAM) {
+            return IntStream.range(0, employees.length).toArray();
+        }
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : grams(folded)) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                return NO_POSTINGS;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    static Set<String> grams(String name) {
+        String folded = fold(name);
+        if (folded == null || folded.length() < GRAM) {
+            return Set.of();
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /** Case-folds one char at a time so positions line up with {@link StringUtils#containsIgnoreCase}. */
+    static String fold(String value) {
+        if (value == null) {
+            return null;
+        }
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] out = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                out[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static final class PostingBuilder {
+        private int[] positions = new int[4];
+        private int size;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Order-statistic index over the roster's salaries: employees sorted by salary descending (id as tie-break) next to a
+ * parallel primitive array of their salaries. Rank, count and percentile queries are binary searches or direct
+ * lookups; {@link #withAdded(Employee)} and {@link #withRemoved(Employee)} return a new index in one array copy rather
+ * than re-sorting. Employees without a salary are not indexed.
+ */
+public final class SalaryIndex {
+
+    public static final Comparator<Employee> BY_SALARY_DESC = Comparator.comparing(
+                    Employee::getEmployeeSalary, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Employee::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final SalaryIndex EMPTY = new SalaryIndex(new Employee[0]);
+
+    private final Employee[] employees;
+    private final int[] salaries;
+
+    private SalaryIndex(Employee[] sortedEmployees) {
+        this.employees = sortedEmployees;
+        this.salaries = new int[sortedEmployees.length];
+        for (int i = 0; i < sortedEmployees.length; i++) {
+            salaries[i] = sortedEmployees[i].getEmployeeSalary();
+        }
+    }
+
+    public static SalaryIndex of(List<Employee> roster) {
+        Employee[] sorted = roster.stream()
+                .filter(Objects::nonNull)
+                .filter(employee -> employee.getEmployeeSalary() != null)
+                .sorted(BY_SALARY_DESC)
+                .toArray(Employee[]::new);
+        return sorted.length == 0 ? EMPTY : new SalaryIndex(sorted);
+    }
+
+    public SalaryIndex withAdded(Employee employee) {
+        if (employee.getEmployeeSalary() == null) {
+            return this;
+        }
+        int position = Arrays.binarySearch(employees, employee, BY_SALARY_DESC);
+        if (position >= 0) {
+            return this;
+        }
+        int insertAt = -position - 1;
+        Employee[] next = new Employee[employees.length + 1];
+        System.arraycopy(employees, 0, next, 0, insertAt);
+        next[insertAt] = employee;
+        System.arraycopy(employees, insertAt, next, insertAt + 1, employees.length - insertAt);
+        return new SalaryIndex(next);
+    }
+
+    public SalaryIndex withRemoved(Employee employee) {
+        if (employee.getEmployeeSalary() == null) {
+            return this;
+        }
+        int position = Arrays.binarySearch(employees, employee, BY_SALARY_DESC);
+        if (position < 0) {
+            return this;
+        }
+        Employee[] next = new Employee[employees.length - 1];
+        System.arraycopy(employees, 0, next, 0, position);
+        System.arraycopy(employees, position + 1, next, position, employees.length - position - 1);
+        return new SalaryIndex(next);
+    }
+
+    public int size() {
+        return employees.length;
+    }
+
+    /** The n highest paid employees, highest first. */
+    public List<Employee> topN(int n) {
+        return List.of(Arrays.copyOf(employees, Math.min(n, employees.length)));
+    }
+
+    public int countEarningMoreThan(int salary) {
+        int low = 0;
+        int high = salaries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] > salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** Competition rank of a salary: 1 plus the number of employees paid strictly more, so equal salaries share a rank. */
+    public int rankOf(int salary) {
+        return countEarningMoreThan(salary) + 1;
+    }
+
+    /** Nearest-rank percentile of the salaries, or null when the index is empty. */
+    public Integer percentile(double percentile) {
+        if (salaries.length == 0) {
+            return null;
+        }
+        int rank = Math.max(1, (int) Math.ceil(percentile / 100 * salaries.length));
+        return salaries[salaries.length - rank];
+    }
+}
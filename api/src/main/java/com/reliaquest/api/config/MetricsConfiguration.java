@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.util.Constants;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfiguration {
+
+    /** Sizes of the in-memory structures the read endpoints are served from, sampled on every scrape. */
+    @Bean
+    public MeterBinder employeeStructureMetrics(EmployeeSnapshotCache employeeSnapshotCache) {
+        return registry -> {
+            Gauge.builder(
+                            Constants.METRICS.SALARY_INDEX_SIZE,
+                            employeeSnapshotCache,
+                            EmployeeSnapshotCache::salaryIndexSize)
+                    .description("Employees in the current snapshot's salary index")
+                    .register(registry);
+            Gauge.builder(Constants.METRICS.ROSTER_SIZE, employeeSnapshotCache, EmployeeSnapshotCache::size)
+                    .description("Employees in the current roster snapshot")
+                    .register(registry);
+        };
+    }
+}
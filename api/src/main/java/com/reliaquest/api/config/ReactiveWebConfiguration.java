@@ -0,0 +1,46 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.controller.impl.ReactiveEmployeeHandler;
+import com.reliaquest.api.exception.BaseException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Active when the api is started with {@code spring.main.web-application-type=reactive}. Requests are then served by
+ * {@link ReactiveEmployeeHandler} on Reactor Netty event-loop threads instead of the blocking servlet controller.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfiguration {
+
+    /**
+     * Tomcat is also on the classpath for the servlet mode; pin the reactive mode to Netty.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> employeeRoutes(ReactiveEmployeeHandler handler) {
+        return RouterFunctions.route()
+                .path("/employee", builder -> builder.GET("", handler::getAllEmployees)
+                        .GET("/search/{searchString}", handler::getEmployeesByNameSearch)
+                        .GET("/highestSalary", handler::getHighestSalaryOfEmployees)
+                        .GET("/topTenHighestEarningEmployeeNames", handler::getTopTenHighestEarningEmployeeNames)
+                        .GET("/salary/top/{n}", handler::getTopEarningEmployees)
+                        .GET("/salary/rank/{id}", handler::getSalaryRankOfEmployee)
+                        .GET("/salary/countAbove/{salary}", handler::getCountOfEmployeesEarningMoreThan)
+                        .GET("/salary/percentile/{percentile}", handler::getSalaryPercentile)
+                        .GET("/{id}", handler::getEmployeeById)
+                        .POST("", handler::createEmployee)
+                        .DELETE("/{id}", handler::deleteEmployeeById))
+                .onError(BaseException.class, (ex, request) -> handler.handleCustomException((BaseException) ex))
+                .build();
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfiguration {
@@ -22,18 +23,80 @@ public class WebClientConfiguration {
     @Value("${custom.api.server-endpoint}")
     private String apiEndpoint;
 
+    @Value("${custom.api.http-client.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${custom.api.http-client.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    @Value("${custom.api.http-client.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${custom.api.http-client.write-timeout:5s}")
+    private Duration writeTimeout;
+
+    @Value("${custom.api.http-client.keep-alive:true}")
+    private boolean keepAlive;
+
+    @Value("${custom.api.http-client.pool.name:employee-api}")
+    private String poolName;
+
+    @Value("${custom.api.http-client.pool.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${custom.api.http-client.pool.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${custom.api.http-client.pool.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${custom.api.http-client.pool.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${custom.api.http-client.pool.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${custom.api.http-client.pool.eviction-interval:30s}")
+    private Duration evictionInterval;
+
+    @Value("${custom.api.http-client.pool.metrics-enabled:true}")
+    private boolean poolMetricsEnabled;
+
+    /**
+     * Connection pool shared by every upstream call. With metrics enabled, Reactor Netty publishes pool occupancy
+     * (reactor.netty.connection.provider.*) and the time spent waiting for a connection
+     * (reactor.netty.connection.provider.pending.connections.time) tagged with the pool name.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeApiConnectionProvider() {
+        return ConnectionProvider.builder(poolName)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(poolMetricsEnabled)
+                .build();
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000)
-                .responseTimeout(Duration.ofMillis(5000))
-                .doOnConnected(conn -> conn.addHandlerLast(new ReadTimeoutHandler(5000, TimeUnit.MILLISECONDS))
-                        .addHandlerLast(new WriteTimeoutHandler(5000, TimeUnit.MILLISECONDS)));
-
-        return WebClient.builder()
+    public WebClient employeeApiWebClient(
+            WebClient.Builder webClientBuilder, ConnectionProvider employeeApiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(employeeApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, keepAlive)
+                .keepAlive(keepAlive)
+                .responseTimeout(responseTimeout)
+                .doOnRequest((request, conn) -> conn.addHandlerLast(
+                                new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        return webClientBuilder
                 .filter((errorHandler()))
                 .baseUrl(apiEndpoint)
-                .clientConnector(new ReactorClientHttpConnector(httpClient));
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 
     public ExchangeFilterFunction errorHandler() {
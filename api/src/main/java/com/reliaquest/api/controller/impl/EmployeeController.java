@@ -1,17 +1,31 @@
 package com.reliaquest.api.controller.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.reliaquest.api.controller.IEmployeeController;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.provider.IEmployeeService;
+import com.reliaquest.api.util.LogSampler;
+import com.reliaquest.api.util.LogSummary;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("employee")
 @Slf4j
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
@@ -19,17 +33,40 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Autowired
     private IEmployeeService employeeService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LogSampler logSampler;
+
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         List<Employee> employees = employeeService.getAllEmployees();
         return ResponseEntity.ok(employees);
     }
 
+    /**
+     * The roster as newline-delimited JSON, one employee per line, selected with {@code Accept: application/x-ndjson}.
+     * Employees are serialized straight onto the response stream, so the body is never materialized in memory and a
+     * slow reader blocks the writer rather than growing a buffer.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        List<Employee> employees = employeeService.getAllEmployees();
+        log.info("streamAllEmployees : streaming {} employees", employees.size());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> writeNdjson(employees, outputStream));
+    }
+
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         log.info("getEmployeesByNameSearch : searchString {} ", searchString);
         List<Employee> filteredEmployees = employeeService.getEmployeesByNameSearch(searchString);
-        log.info("getEmployeesByNameSearch :  filteredEmployees {}", filteredEmployees);
+        log.info("getEmployeesByNameSearch :  filteredEmployees {}", LogSummary.employees(filteredEmployees));
+        if (logSampler.sample(log, "getEmployeesByNameSearch")) {
+            log.debug("getEmployeesByNameSearch : sampled filteredEmployees {}", LogSummary.detail(filteredEmployees));
+        }
         return ResponseEntity.ok(filteredEmployees);
     }
 
@@ -50,10 +87,45 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         final List<String> topTenHighestEarningEmployeeNames = employeeService.getTopTenHighestEarningEmployeeNames();
-        log.info("GetTopTenHighestEarningEmployeeNames : List :{}", topTenHighestEarningEmployeeNames);
+        log.info(
+                "GetTopTenHighestEarningEmployeeNames : List :{}",
+                LogSummary.values(topTenHighestEarningEmployeeNames));
+        if (logSampler.sample(log, "getTopTenHighestEarningEmployeeNames")) {
+            log.debug(
+                    "GetTopTenHighestEarningEmployeeNames : sampled List :{}",
+                    LogSummary.detail(topTenHighestEarningEmployeeNames));
+        }
         return ResponseEntity.ok(topTenHighestEarningEmployeeNames);
     }
 
+    @GetMapping("/salary/top/{n}")
+    public ResponseEntity<List<Employee>> getTopEarningEmployees(@PathVariable int n) {
+        final List<Employee> topEarningEmployees = employeeService.getTopEarningEmployees(n);
+        log.info("getTopEarningEmployees : n {} returned {}", n, topEarningEmployees.size());
+        return ResponseEntity.ok(topEarningEmployees);
+    }
+
+    @GetMapping("/salary/rank/{id}")
+    public ResponseEntity<Integer> getSalaryRankOfEmployee(@PathVariable String id) {
+        final Integer rank = employeeService.getSalaryRankOfEmployee(id);
+        log.info("getSalaryRankOfEmployee : Employee Id {} rank {}", id, rank);
+        return ResponseEntity.ok(rank);
+    }
+
+    @GetMapping("/salary/countAbove/{salary}")
+    public ResponseEntity<Integer> getCountOfEmployeesEarningMoreThan(@PathVariable int salary) {
+        final Integer count = employeeService.getCountOfEmployeesEarningMoreThan(salary);
+        log.info("getCountOfEmployeesEarningMoreThan : salary {} count {}", salary, count);
+        return ResponseEntity.ok(count);
+    }
+
+    @GetMapping("/salary/percentile/{percentile}")
+    public ResponseEntity<Integer> getSalaryPercentile(@PathVariable double percentile) {
+        final Integer salary = employeeService.getSalaryPercentile(percentile);
+        log.info("getSalaryPercentile : percentile {} salary {}", percentile, salary);
+        return ResponseEntity.ok(salary);
+    }
+
     @Override
     public ResponseEntity<Employee> createEmployee(CreateEmployeeInput employeeInput) {
         Employee employee = employeeService.createEmployee(employeeInput);
@@ -68,4 +140,19 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         log.info("DeleteEmployeeById : deleted Employee :{}", nameOfDeletedEmployee);
         return ResponseEntity.ok(nameOfDeletedEmployee);
     }
+
+    /** One employee per line, each line ended by {@code \n}; the servlet container owns and closes the stream. */
+    private void writeNdjson(List<Employee> employees, OutputStream outputStream) throws IOException {
+        ObjectWriter writer = objectMapper
+                .writerFor(Employee.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (SequenceWriter sequence = writer.writeValues(outputStream)) {
+            sequence.writeAll(employees);
+        }
+        if (!employees.isEmpty()) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
 }
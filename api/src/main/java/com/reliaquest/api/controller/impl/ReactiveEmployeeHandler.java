@@ -0,0 +1,159 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.exception.BaseAPIError;
+import com.reliaquest.api.exception.BaseException;
+import com.reliaquest.api.exception.handler.ApiExceptionMetrics;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.provider.IReactiveEmployeeService;
+import com.reliaquest.api.util.Constants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux handler functions serving the {@link com.reliaquest.api.controller.IEmployeeController} contract (same
+ * routes, payloads and error bodies) without blocking a thread per request.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+public class ReactiveEmployeeHandler {
+
+    @Autowired
+    private IReactiveEmployeeService employeeService;
+
+    @Autowired
+    private ApiExceptionMetrics apiExceptionMetrics;
+
+    /**
+     * With {@code Accept: application/x-ndjson} the roster is written one employee per line, flushed per element and
+     * paced by the client's demand; otherwise it is a JSON array.
+     */
+    public Mono<ServerResponse> getAllEmployees(ServerRequest request) {
+        MediaType contentType = acceptsNdjson(request) ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return okList(contentType, employeeService.getAllEmployees());
+    }
+
+    public Mono<ServerResponse> getEmployeesByNameSearch(ServerRequest request) {
+        String searchString = request.pathVariable("searchString");
+        log.info("getEmployeesByNameSearch : searchString {} ", searchString);
+        return okList(MediaType.APPLICATION_JSON, employeeService.getEmployeesByNameSearch(searchString));
+    }
+
+    public Mono<ServerResponse> getEmployeeById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        log.info("getEmployeeById : Employee Id {}", id);
+        return employeeService.getEmployeeById(id).flatMap(this::ok);
+    }
+
+    public Mono<ServerResponse> getHighestSalaryOfEmployees(ServerRequest request) {
+        return employeeService
+                .getHighestSalaryOfEmployees()
+                .doOnNext(highestSalary -> log.info("getHighestSalaryOfEmployees result :{}", highestSalary))
+                .flatMap(this::ok)
+                .switchIfEmpty(ServerResponse.ok().build());
+    }
+
+    public Mono<ServerResponse> getTopTenHighestEarningEmployeeNames(ServerRequest request) {
+        return employeeService
+                .getTopTenHighestEarningEmployeeNames()
+                .collectList()
+                .flatMap(this::ok);
+    }
+
+    public Mono<ServerResponse> getTopEarningEmployees(ServerRequest request) {
+        return Mono.fromSupplier(() -> intPathVariable(request, "n"))
+                .flatMap(n -> okList(MediaType.APPLICATION_JSON, employeeService.getTopEarningEmployees(n)));
+    }
+
+    public Mono<ServerResponse> getSalaryRankOfEmployee(ServerRequest request) {
+        String id = request.pathVariable("id");
+        return employeeService.getSalaryRankOfEmployee(id).flatMap(this::ok);
+    }
+
+    public Mono<ServerResponse> getCountOfEmployeesEarningMoreThan(ServerRequest request) {
+        return Mono.fromSupplier(() -> intPathVariable(request, "salary"))
+                .flatMap(employeeService::getCountOfEmployeesEarningMoreThan)
+                .flatMap(this::ok);
+    }
+
+    public Mono<ServerResponse> getSalaryPercentile(ServerRequest request) {
+        return Mono.fromSupplier(() -> doublePathVariable(request, "percentile"))
+                .flatMap(employeeService::getSalaryPercentile)
+                .flatMap(this::ok)
+                .switchIfEmpty(ServerResponse.ok().build());
+    }
+
+    public Mono<ServerResponse> createEmployee(ServerRequest request) {
+        return request.bodyToMono(CreateEmployeeInput.class)
+                .flatMap(employeeService::createEmployee)
+                .doOnNext(employee -> log.info("CreateEmployee : Leaving Handler"))
+                .flatMap(this::ok);
+    }
+
+    public Mono<ServerResponse> deleteEmployeeById(ServerRequest request) {
+        return employeeService
+                .deleteEmployee(request.pathVariable("id"))
+                .doOnNext(nameOfDeletedEmployee ->
+                        log.info("DeleteEmployeeById : deleted Employee :{}", nameOfDeletedEmployee))
+                .flatMap(nameOfDeletedEmployee -> ServerResponse.ok().bodyValue(nameOfDeletedEmployee));
+    }
+
+    public Mono<ServerResponse> handleCustomException(BaseException ex) {
+        apiExceptionMetrics.record(ex);
+        BaseAPIError baseAPIError = new BaseAPIError();
+        baseAPIError.setStatus(ex.getStatus());
+        baseAPIError.setMessage(ex.getMessage());
+        return ServerResponse.status(baseAPIError.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(baseAPIError);
+    }
+
+    private Mono<ServerResponse> ok(Object body) {
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    /**
+     * Collects the employees before the response is started: a body flux only runs while the response is written,
+     * after the status is committed, so an upstream or validation error would reach the client as a cut-off 200
+     * instead of passing through the route's {@link BaseException} handler. The roster is already held in memory, so
+     * collecting it costs one list of references.
+     */
+    private static Mono<ServerResponse> okList(MediaType contentType, Flux<Employee> employees) {
+        return employees
+                .collectList()
+                .flatMap(list -> ServerResponse.ok()
+                        .contentType(contentType)
+                        .body(Flux.fromIterable(list), Employee.class));
+    }
+
+    /** Only an explicit ndjson Accept selects streaming; wildcards keep the JSON array. */
+    private static boolean acceptsNdjson(ServerRequest request) {
+        return request.headers().accept().stream()
+                .anyMatch(mediaType -> mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON));
+    }
+
+    private static int intPathVariable(ServerRequest request, String name) {
+        try {
+            return Integer.parseInt(request.pathVariable(name));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException(Constants.MESSAGES.BAD_INPUT_EXCEPTION_MESSAGE);
+        }
+    }
+
+    private static double doublePathVariable(ServerRequest request, String name) {
+        try {
+            return Double.parseDouble(request.pathVariable(name));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException(Constants.MESSAGES.BAD_INPUT_EXCEPTION_MESSAGE);
+        }
+    }
+}
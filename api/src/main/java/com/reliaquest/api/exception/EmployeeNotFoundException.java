@@ -11,4 +11,10 @@ public class EmployeeNotFoundException extends BaseException {
         this.status = HttpStatus.NOT_FOUND.value();
         this.message = Constants.MESSAGES.EMPLOYEE_NOT_FOUND_WITH_ID_MESSAGE + message;
     }
+
+    public static EmployeeNotFoundException withName(String name) {
+        EmployeeNotFoundException exception = new EmployeeNotFoundException(name);
+        exception.message = Constants.MESSAGES.EMPLOYEE_NOT_FOUND_WITH_NAME_MESSAGE + name;
+        return exception;
+    }
 }
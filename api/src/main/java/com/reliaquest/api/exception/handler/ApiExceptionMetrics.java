@@ -0,0 +1,29 @@
+package com.reliaquest.api.exception.handler;
+
+import com.reliaquest.api.exception.BaseException;
+import com.reliaquest.api.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the {@link BaseException}s turned into error responses, tagged with the exception type and the HTTP status
+ * returned. Shared by the servlet and reactive handlers so both report the same series.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiExceptionMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(BaseException ex) {
+        meterRegistry
+                .counter(
+                        Constants.METRICS.API_EXCEPTIONS,
+                        "exception",
+                        ex.getClass().getSimpleName(),
+                        "status",
+                        String.valueOf(ex.getStatus()))
+                .increment();
+    }
+}
@@ -7,6 +7,8 @@ import com.reliaquest.api.exception.BaseException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.InternalServerError;
 import com.reliaquest.api.exception.TooManyRequestException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -16,15 +18,20 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @ControllerAdvice
 public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
+    @Autowired
+    private ApiExceptionMetrics apiExceptionMetrics;
+
     @ExceptionHandler({
         TooManyRequestException.class, EmployeeNotFoundException.class,
         ApiResponseJsonParseException.class, InternalServerError.class,
         BadRequestException.class
     })
     protected ResponseEntity<Object> handleCustomException(BaseException ex) {
+        apiExceptionMetrics.record(ex);
         BaseAPIError baseAPIError = new BaseAPIError();
         buildApiError(baseAPIError, ex);
         return buildResponseEntity(baseAPIError);
@@ -0,0 +1,13 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDeleteEmployeeInput {
+    List<DeleteEmployeeInput> employees;
+}
@@ -1,5 +1,7 @@
 package com.reliaquest.api.model;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -14,7 +16,9 @@ public class CreateEmployeeInput {
 
     @Positive @NotNull private Integer salary;
 
-    @Positive @NotNull private Integer age;
+    @Min(16)
+    @Max(75)
+    @NotNull private Integer age;
 
     @NotBlank
     private String title;
@@ -1,5 +1,6 @@
 package com.reliaquest.api.model;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.Builder;
 import lombok.Data;
 
@@ -7,5 +8,6 @@ import lombok.Data;
 @Builder
 public class DeleteEmployeeInput {
 
+    @NotBlank
     private String name;
 }
@@ -8,4 +8,5 @@ public class EmployeeListResponse {
     List<Employee> data;
     String status;
     String message;
+    String nextCursor;
 }
@@ -3,6 +3,7 @@ package com.reliaquest.api.service.consumer;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +15,7 @@ public interface IEmployeeClient {
 
     public List<Employee> getAllEmployees();
 
+    public Iterator<List<Employee>> getEmployeePages(int pageSize, int parallelism);
+
     public String deleteEmployee(DeleteEmployeeInput input);
 }
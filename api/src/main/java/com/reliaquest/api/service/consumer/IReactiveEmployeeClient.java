@@ -0,0 +1,35 @@
+package com.reliaquest.api.service.consumer;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchDeleteResponse;
+import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IEmployeeClient}. Nothing is sent upstream until the returned publisher is
+ * subscribed to.
+ */
+public interface IReactiveEmployeeClient {
+
+    Mono<Employee> createEmployee(CreateEmployeeInput input);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Flux<Employee> getAllEmployees();
+
+    /**
+     * The roster in pages of at most {@code pageSize}, fetched over {@code parallelism} disjoint id ranges at once.
+     */
+    Flux<List<Employee>> getEmployeePages(int pageSize, int parallelism);
+
+    Mono<String> deleteEmployee(DeleteEmployeeInput input);
+
+    /** Creates every input in one upstream call; employees are returned in input order. */
+    Mono<List<Employee>> createEmployees(List<CreateEmployeeInput> inputs);
+
+    /** Deletes every input in one upstream call; {@code data} says, in input order, whether each name matched. */
+    Mono<EmployeeBatchDeleteResponse> deleteEmployees(List<DeleteEmployeeInput> inputs);
+}
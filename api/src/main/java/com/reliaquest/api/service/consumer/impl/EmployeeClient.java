@@ -1,86 +1,156 @@
 package com.reliaquest.api.service.consumer.impl;
 
+import com.reliaquest.api.exception.BadRequestException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
-import com.reliaquest.api.model.EmployeeDeleteResponse;
-import com.reliaquest.api.model.EmployeeListResponse;
-import com.reliaquest.api.model.EmployeeResponse;
 import com.reliaquest.api.service.consumer.IEmployeeClient;
-import com.reliaquest.api.util.Constants;
+import com.reliaquest.api.timing.ServerTiming;
+import com.reliaquest.api.util.MicroBatcher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
+/**
+ * Blocking facade over {@link ReactiveEmployeeClient} for the servlet request path. With write batching enabled,
+ * concurrent creates and deletes are collected for a short window and sent upstream as one batch call each. The
+ * upstream rejects a batch as a whole if any input in it is invalid, so each input is validated before it may join
+ * one, and each delete is answered from its own result in the batch. Time spent waiting on upstream is recorded as the
+ * {@code upstream} phase of the request's {@link ServerTiming}.
+ */
 @Component
 public class EmployeeClient implements IEmployeeClient {
 
+    private static final Validator VALIDATOR =
+            Validation.buildDefaultValidatorFactory().getValidator();
+
     @Autowired
-    private WebClient.Builder webClientBuilder;
+    private ReactiveEmployeeClient reactiveEmployeeClient;
+
+    @Value("${custom.api.write-batching.enabled:false}")
+    private boolean writeBatching;
+
+    @Value("${custom.api.write-batching.window:10ms}")
+    private Duration writeBatchWindow = Duration.ofMillis(10);
+
+    @Value("${custom.api.write-batching.max-size:100}")
+    private int maxWriteBatchSize = 100;
+
+    @Value("${custom.api.write-batching.max-in-flight:2}")
+    private int maxWriteBatchesInFlight = 2;
+
+    private MicroBatcher<CreateEmployeeInput, Employee> createBatcher;
+
+    private MicroBatcher<DeleteEmployeeInput, BatchDeleteResult> deleteBatcher;
+
+    @PostConstruct
+    void startWriteBatching() {
+        if (!writeBatching) {
+            return;
+        }
+        createBatcher = new MicroBatcher<>(
+                maxWriteBatchSize, writeBatchWindow, maxWriteBatchesInFlight, reactiveEmployeeClient::createEmployees);
+        deleteBatcher = new MicroBatcher<>(
+                maxWriteBatchSize, writeBatchWindow, maxWriteBatchesInFlight, inputs -> reactiveEmployeeClient
+                        .deleteEmployees(inputs)
+                        .map(response -> IntStream.range(0, response.getData().size())
+                                .mapToObj(i -> new BatchDeleteResult(
+                                        Boolean.TRUE.equals(response.getData().get(i)), response.getStatus()))
+                                .toList()));
+    }
+
+    @PreDestroy
+    void stopWriteBatching() {
+        if (createBatcher != null) {
+            createBatcher.dispose();
+            deleteBatcher.dispose();
+        }
+    }
 
     @Override
     public Employee createEmployee(CreateEmployeeInput input) {
-        return webClientBuilder
-                .build()
-                .post()
-                .uri(uriBuilder ->
-                        uriBuilder.path(Constants.API_PATH_EMPLOYEE.BASE).build())
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(input)
-                .retrieve()
-                .bodyToMono(EmployeeResponse.class)
-                .map(EmployeeResponse::getData)
-                .block();
+        if (createBatcher != null) {
+            validate(input);
+            return upstream(() -> createBatcher.submit(input).block());
+        }
+        return upstream(() -> reactiveEmployeeClient
+                .createEmployee(input)
+                .contextWrite(ServerTiming::propagate)
+                .block());
     }
 
     @Override
     public Optional<Employee> getEmployeeById(String id) {
-        EmployeeResponse employeeResponse = webClientBuilder
-                .build()
-                .get()
-                .uri(uriBuilder ->
-                        uriBuilder.path(Constants.API_PATH_EMPLOYEE.GET_BY_ID).build(id))
-                .retrieve()
-                .onStatus(
-                        HttpStatus.NOT_FOUND::equals, // Check if status is 404
-                        response -> Mono.error(new EmployeeNotFoundException(id)) // Custom error handling
-                        )
-                .bodyToMono(EmployeeResponse.class)
-                .block();
-        return Optional.ofNullable(employeeResponse).map(EmployeeResponse::getData);
+        return upstream(() -> reactiveEmployeeClient
+                .getEmployeeById(id)
+                .contextWrite(ServerTiming::propagate)
+                .blockOptional());
     }
 
     @Override
     public List<Employee> getAllEmployees() {
-        return webClientBuilder
-                .build()
-                .get()
-                .uri(uriBuilder ->
-                        uriBuilder.path(Constants.API_PATH_EMPLOYEE.BASE).build())
-                .retrieve()
-                .bodyToMono(EmployeeListResponse.class)
-                .map(EmployeeListResponse::getData)
-                .block();
+        return upstream(() -> reactiveEmployeeClient
+                .getAllEmployeesAsList()
+                .contextWrite(ServerTiming::propagate)
+                .block());
+    }
+
+    /**
+     * Pages are fetched ahead of the caller by at most {@code parallelism} requests; the iterator blocks until the
+     * next page has arrived.
+     */
+    @Override
+    public Iterator<List<Employee>> getEmployeePages(int pageSize, int parallelism) {
+        return reactiveEmployeeClient
+                .getEmployeePages(pageSize, parallelism)
+                .toIterable(parallelism)
+                .iterator();
     }
 
     @Override
     public String deleteEmployee(DeleteEmployeeInput input) {
-        return webClientBuilder
-                .build()
-                .method(HttpMethod.DELETE)
-                .uri(uriBuilder ->
-                        uriBuilder.path(Constants.API_PATH_EMPLOYEE.BASE).build())
-                .bodyValue(input)
-                .retrieve()
-                .bodyToMono(EmployeeDeleteResponse.class)
-                .map(EmployeeDeleteResponse::getStatus)
-                .block();
+        if (deleteBatcher != null) {
+            validate(input);
+            BatchDeleteResult result = upstream(() -> deleteBatcher.submit(input).block());
+            if (!result.deleted()) {
+                throw EmployeeNotFoundException.withName(input.getName());
+            }
+            return result.status();
+        }
+        return upstream(() -> reactiveEmployeeClient
+                .deleteEmployee(input)
+                .contextWrite(ServerTiming::propagate)
+                .block());
     }
+
+    private static void validate(Object input) {
+        Set<ConstraintViolation<Object>> violations = VALIDATOR.validate(input);
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static <T> T upstream(Supplier<T> call) {
+        return ServerTiming.time("upstream", call);
+    }
+
+    /** One delete's share of a batch response: whether its name matched an employee, and the batch status. */
+    private record BatchDeleteResult(boolean deleted, String status) {}
 }
@@ -0,0 +1,150 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.exception.ApiResponseJsonParseException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.timing.ServerTiming;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes the upstream {@code {"data": [...], "status": ...}} list envelope incrementally. Body chunks are fed to
+ * Jackson's non-blocking parser as they arrive and each element of the top-level {@code data} array is emitted as soon
+ * as its closing brace has been read, so at most one employee's tokens and one network chunk are held at a time
+ * regardless of roster size. Everything outside {@code data} is skipped. Parsing time is added to the
+ * {@link ServerTiming} of the request the body was fetched for, if any.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeListStreamDecoder {
+
+    private static final String DATA_FIELD = "data";
+
+    private static final String DECODE_PHASE = "decode";
+
+    private final ObjectMapper objectMapper;
+
+    public Flux<Employee> decode(Flux<DataBuffer> body) {
+        return Flux.deferContextual(context -> {
+            ServerTiming timing = ServerTiming.from(context);
+            State state;
+            try {
+                state = new State(objectMapper.getFactory().createNonBlockingByteArrayParser());
+            } catch (IOException ex) {
+                return Flux.error(new ApiResponseJsonParseException());
+            }
+            Function<DataBuffer, List<Employee>> feed = timing == null
+                    ? state::feed
+                    : buffer -> {
+                        long start = System.nanoTime();
+                        try {
+                            return state.feed(buffer);
+                        } finally {
+                            timing.add(DECODE_PHASE, System.nanoTime() - start);
+                        }
+                    };
+            return body.concatMapIterable(feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(state.endOfInput())))
+                    .doFinally(signal -> state.close());
+        });
+    }
+
+    private final class State {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        /** Nesting depth of the token last read; the envelope object is depth 1, the data array depth 2. */
+        private int depth;
+
+        private boolean inData;
+        private boolean dataFieldNext;
+        private TokenBuffer element;
+
+        State(JsonParser parser) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<Employee> feed(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException ex) {
+                throw parseFailure(ex);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        List<Employee> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<Employee> employees = drain();
+                if (depth != 0) {
+                    throw parseFailure(new IOException("Upstream employee list ended mid-document"));
+                }
+                return employees;
+            } catch (IOException ex) {
+                throw parseFailure(ex);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ex) {
+                log.debug("close- Failed to close streaming parser", ex);
+            }
+        }
+
+        private List<Employee> drain() throws IOException {
+            List<Employee> decoded = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                    if (depth == 2 && dataFieldNext && token == JsonToken.START_ARRAY) {
+                        inData = true;
+                    } else if (depth == 3 && inData && token == JsonToken.START_OBJECT) {
+                        element = new TokenBuffer(parser, null);
+                        element.copyCurrentEvent(parser);
+                    }
+                } else if (token.isStructEnd()) {
+                    if (depth == 3 && element != null) {
+                        decoded.add(objectMapper.readValue(element.asParser(parser.getCodec()), Employee.class));
+                        element = null;
+                    } else if (depth == 2 && inData) {
+                        inData = false;
+                    }
+                    depth--;
+                }
+                dataFieldNext = depth == 1 && token == JsonToken.FIELD_NAME && DATA_FIELD.equals(parser.currentName());
+            }
+            return decoded;
+        }
+
+        private ApiResponseJsonParseException parseFailure(IOException ex) {
+            log.error("decode- Failed to parse upstream employee list", ex);
+            return new ApiResponseJsonParseException();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent latency samples of one kind of call in a ring buffer and answers percentile queries over them.
+ * The percentile is recomputed lazily, at most once per {@link #RECOMPUTE_EVERY} samples.
+ */
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final long[] samples;
+    private final int minSamples;
+    private int next;
+    private int size;
+    private int sinceRecompute;
+    private double cachedPercentile = Double.NaN;
+    private long cachedNanos;
+
+    public LatencyTracker(int capacity, int minSamples) {
+        this.samples = new long[capacity];
+        this.minSamples = minSamples;
+    }
+
+    public synchronized void record(Duration latency) {
+        samples[next] = latency.toNanos();
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+        sinceRecompute++;
+    }
+
+    /**
+     * @return the given percentile (0-100) of the recorded latencies, or {@code null} until enough samples exist
+     */
+    public synchronized Duration percentile(double percentile) {
+        if (size < minSamples) {
+            return null;
+        }
+        if (percentile != cachedPercentile || sinceRecompute >= RECOMPUTE_EVERY) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            cachedNanos = sorted[Math.max(0, Math.min(size - 1, index))];
+            cachedPercentile = percentile;
+            sinceRecompute = 0;
+        }
+        return Duration.ofNanos(cachedNanos);
+    }
+}
@@ -0,0 +1,279 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.BatchCreateEmployeeInput;
+import com.reliaquest.api.model.BatchDeleteEmployeeInput;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeBatchDeleteResponse;
+import com.reliaquest.api.model.EmployeeDeleteResponse;
+import com.reliaquest.api.model.EmployeeListResponse;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.service.consumer.IReactiveEmployeeClient;
+import com.reliaquest.api.util.Constants;
+import com.reliaquest.api.util.SingleFlight;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class ReactiveEmployeeClient implements IReactiveEmployeeClient {
+
+    private static final String ALL_EMPLOYEES_KEY = "all";
+
+    private final WebClient webClient;
+
+    private final UpstreamAdmissionScheduler admissionScheduler;
+
+    private final UpstreamResiliencePolicy resiliencePolicy;
+
+    private final EmployeeListStreamDecoder employeeListStreamDecoder;
+
+    private final UpstreamCallMetrics upstreamCallMetrics;
+
+    /** Decode the roster incrementally from the response body instead of buffering it whole. */
+    @Value("${custom.api.streaming-decode.enabled:true}")
+    private boolean streamingDecode = true;
+
+    /** Fetch the roster through the upstream's cursor pagination instead of one list response. */
+    @Value("${custom.api.paging.enabled:false}")
+    private boolean pagedFetch;
+
+    @Value("${custom.api.paging.page-size:1000}")
+    private int pageSize = 1000;
+
+    @Value("${custom.api.paging.parallelism:4}")
+    private int pageParallelism = 4;
+
+    private final SingleFlight<String, List<Employee>> allEmployeesFlight = new SingleFlight<>();
+
+    private final SingleFlight<String, EmployeeResponse> employeeByIdFlight = new SingleFlight<>();
+
+    @Override
+    public Mono<Employee> createEmployee(CreateEmployeeInput input) {
+        return admissionScheduler.schedule(UpstreamPriority.HIGH, () -> requestCreateEmployee(input));
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String id) {
+        return employeeByIdFlight
+                .execute(
+                        id,
+                        () -> resiliencePolicy.retryingRead(
+                                "getEmployeeById",
+                                () -> resiliencePolicy.hedgedRead(() -> admissionScheduler.schedule(
+                                        UpstreamPriority.LOW, () -> requestEmployeeById(id)))))
+                .mapNotNull(EmployeeResponse::getData);
+    }
+
+    /**
+     * With streaming decode, employees are emitted as they are parsed off the wire. Retries and admission then cover
+     * the call up to the response headers; a failure after the first employee has been emitted is not retried.
+     */
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        if (pagedFetch) {
+            return getEmployeePages(pageSize, pageParallelism).flatMapIterable(Function.identity());
+        }
+        if (!streamingDecode) {
+            return getAllEmployeesAsList().flatMapIterable(Function.identity());
+        }
+        return resiliencePolicy
+                .retryingRead(
+                        "getAllEmployees",
+                        () -> admissionScheduler.schedule(UpstreamPriority.NORMAL, this::requestAllEmployeesStream))
+                .flatMapMany(Function.identity());
+    }
+
+    /**
+     * The whole roster as one list, as returned by the upstream. Concurrent subscribers share a single upstream call.
+     */
+    public Mono<List<Employee>> getAllEmployeesAsList() {
+        if (pagedFetch) {
+            return allEmployeesFlight.execute(ALL_EMPLOYEES_KEY, () -> getEmployeePages(pageSize, pageParallelism)
+                    .flatMapIterable(Function.identity())
+                    .collectList());
+        }
+        Supplier<Mono<List<Employee>>> request = streamingDecode
+                ? () -> requestAllEmployeesStream().flatMap(Flux::collectList)
+                : this::requestAllEmployees;
+        return allEmployeesFlight.execute(
+                ALL_EMPLOYEES_KEY,
+                () -> resiliencePolicy.retryingRead(
+                        "getAllEmployees", () -> admissionScheduler.schedule(UpstreamPriority.NORMAL, request)));
+    }
+
+    /**
+     * Keyset paging over the upstream's cursor. Each of the {@code parallelism} partitions is walked page by page,
+     * the next request going out once the previous page's cursor is known, and pages of different partitions
+     * interleave. Every page request is retried on its own, so a failure late in a large roster does not restart it.
+     */
+    @Override
+    public Flux<List<Employee>> getEmployeePages(int pageSize, int parallelism) {
+        if (pageSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("pageSize and parallelism must be positive");
+        }
+        return Flux.range(0, parallelism)
+                .flatMap(partition -> getPartitionPages(pageSize, partition, parallelism), parallelism);
+    }
+
+    @Override
+    public Mono<String> deleteEmployee(DeleteEmployeeInput input) {
+        return admissionScheduler.schedule(UpstreamPriority.HIGH, () -> requestDeleteEmployee(input));
+    }
+
+    @Override
+    public Mono<List<Employee>> createEmployees(List<CreateEmployeeInput> inputs) {
+        return admissionScheduler.schedule(
+                UpstreamPriority.HIGH,
+                () -> upstreamCallMetrics.timed(
+                        "createEmployees",
+                        webClient
+                                .post()
+                                .uri(uriBuilder -> uriBuilder
+                                        .path(Constants.API_PATH_EMPLOYEE.BATCH)
+                                        .build())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(new BatchCreateEmployeeInput(inputs))
+                                .retrieve()
+                                .bodyToMono(EmployeeListResponse.class)
+                                .map(EmployeeListResponse::getData)));
+    }
+
+    @Override
+    public Mono<EmployeeBatchDeleteResponse> deleteEmployees(List<DeleteEmployeeInput> inputs) {
+        return admissionScheduler.schedule(
+                UpstreamPriority.HIGH,
+                () -> upstreamCallMetrics.timed(
+                        "deleteEmployees",
+                        webClient
+                                .method(HttpMethod.DELETE)
+                                .uri(uriBuilder -> uriBuilder
+                                        .path(Constants.API_PATH_EMPLOYEE.BATCH)
+                                        .build())
+                                .bodyValue(new BatchDeleteEmployeeInput(inputs))
+                                .retrieve()
+                                .bodyToMono(EmployeeBatchDeleteResponse.class)));
+    }
+
+    private Mono<Employee> requestCreateEmployee(CreateEmployeeInput input) {
+        return upstreamCallMetrics.timed(
+                "createEmployee",
+                webClient
+                        .post()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(Constants.API_PATH_EMPLOYEE.BASE)
+                                .build())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(input)
+                        .retrieve()
+                        .bodyToMono(EmployeeResponse.class)
+                        .map(EmployeeResponse::getData));
+    }
+
+    private Mono<EmployeeResponse> requestEmployeeById(String id) {
+        return upstreamCallMetrics.timed(
+                "getEmployeeById",
+                webClient
+                        .get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(Constants.API_PATH_EMPLOYEE.GET_BY_ID)
+                                .build(id))
+                        .retrieve()
+                        .onStatus(
+                                HttpStatus.NOT_FOUND::equals, // Check if status is 404
+                                response -> Mono.error(new EmployeeNotFoundException(id)) // Custom error handling
+                                )
+                        .bodyToMono(EmployeeResponse.class));
+    }
+
+    private Mono<List<Employee>> requestAllEmployees() {
+        return upstreamCallMetrics.timed(
+                "getAllEmployees",
+                webClient
+                        .get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(Constants.API_PATH_EMPLOYEE.BASE)
+                                .build())
+                        .retrieve()
+                        .bodyToMono(EmployeeListResponse.class)
+                        .map(EmployeeListResponse::getData));
+    }
+
+    /**
+     * Completes once the response headers have been accepted; the body is decoded as the returned flux is read. The
+     * upstream timer therefore stops at the headers.
+     */
+    private Mono<Flux<Employee>> requestAllEmployeesStream() {
+        return upstreamCallMetrics.timed(
+                "getAllEmployees",
+                webClient
+                        .get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path(Constants.API_PATH_EMPLOYEE.BASE)
+                                .build())
+                        .retrieve()
+                        .toEntityFlux(DataBuffer.class)
+                        .map(entity -> employeeListStreamDecoder.decode(entity.getBody())));
+    }
+
+    private Flux<List<Employee>> getPartitionPages(int pageSize, int partition, int partitions) {
+        return requestPage(pageSize, null, partition, partitions)
+                .expand(page -> page.getNextCursor() == null
+                        ? Mono.empty()
+                        : requestPage(pageSize, page.getNextCursor(), partition, partitions))
+                .mapNotNull(EmployeeListResponse::getData);
+    }
+
+    private Mono<EmployeeListResponse> requestPage(int pageSize, String cursor, int partition, int partitions) {
+        return resiliencePolicy.retryingRead(
+                "getEmployeePage",
+                () -> admissionScheduler.schedule(
+                        UpstreamPriority.NORMAL,
+                        () -> upstreamCallMetrics.timed(
+                                "getEmployeePage",
+                                webClient
+                                        .get()
+                                        .uri(uriBuilder -> {
+                                            uriBuilder
+                                                    .path(Constants.API_PATH_EMPLOYEE.BASE)
+                                                    .queryParam("limit", pageSize);
+                                            if (cursor == null) {
+                                                uriBuilder
+                                                        .queryParam("partition", partition)
+                                                        .queryParam("partitions", partitions);
+                                            } else {
+                                                uriBuilder.queryParam("cursor", cursor);
+                                            }
+                                            return uriBuilder.build();
+                                        })
+                                        .retrieve()
+                                        .bodyToMono(EmployeeListResponse.class))));
+    }
+
+    private Mono<String> requestDeleteEmployee(DeleteEmployeeInput input) {
+        return upstreamCallMetrics.timed(
+                "deleteEmployee",
+                webClient
+                        .method(HttpMethod.DELETE)
+                        .uri(uriBuilder -> uriBuilder
+                                .path(Constants.API_PATH_EMPLOYEE.BASE)
+                                .build())
+                        .bodyValue(input)
+                        .retrieve()
+                        .bodyToMono(EmployeeDeleteResponse.class)
+                        .map(EmployeeDeleteResponse::getStatus));
+    }
+}
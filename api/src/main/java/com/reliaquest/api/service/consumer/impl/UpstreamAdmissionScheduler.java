@@ -0,0 +1,355 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import com.reliaquest.api.exception.TooManyRequestException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Admission control in front of the upstream employee API.
+ *
+ * <p>The upstream accepts a fixed number of requests and then answers 429 until a backoff period has passed since the
+ * last accepted request. Neither number is published, so this scheduler learns both from the responses it observes:
+ * the request count that preceded the first 429 becomes the limit estimate, and probes sent after a lockout tighten or
+ * widen the backoff estimate. Calls are admitted while the estimated budget lasts, queued by {@link UpstreamPriority}
+ * while the upstream is locked, and rejected up front with {@link TooManyRequestException} when they could not be sent
+ * within the maximum queue wait. A call that is still answered with 429 is re-queued once, since the upstream rejects
+ * it before doing any work.
+ */
+@Component
+@Slf4j
+public class UpstreamAdmissionScheduler {
+
+    private static final Duration MIN_LOCKOUT = Duration.ofSeconds(1);
+
+    private final boolean enabled;
+    private final int reservedForHighPriority;
+    private final int maxQueueSize;
+    private final Duration maxQueueWait;
+    private final Duration maxBackoff;
+    private final Clock clock;
+
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparing(Waiter::priority).reversed().thenComparingLong(Waiter::sequence));
+
+    private int estimatedLimit;
+    private Duration estimatedBackoff;
+    private boolean limitConfirmed;
+    private boolean lockoutConfirmed;
+    private boolean probeMeasuresBackoff;
+    private int usedInWindow;
+    private int acceptedInWindow;
+    private Instant lastAcceptedSentAt;
+    private Instant previousWindowLastAcceptedSentAt;
+    private Instant lockedUntil;
+    private boolean probeInFlight;
+    private long sequence;
+    private Instant drainScheduledFor;
+
+    @Autowired
+    public UpstreamAdmissionScheduler(
+            @Value("${custom.api.rate-budget.enabled:true}") boolean enabled,
+            @Value("${custom.api.rate-budget.initial-limit:5}") int initialLimit,
+            @Value("${custom.api.rate-budget.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${custom.api.rate-budget.max-backoff:90s}") Duration maxBackoff,
+            @Value("${custom.api.rate-budget.reserved-for-high-priority:1}") int reservedForHighPriority,
+            @Value("${custom.api.rate-budget.max-queue-size:100}") int maxQueueSize,
+            @Value("${custom.api.rate-budget.max-queue-wait:5s}") Duration maxQueueWait) {
+        this(
+                enabled,
+                initialLimit,
+                initialBackoff,
+                maxBackoff,
+                reservedForHighPriority,
+                maxQueueSize,
+                maxQueueWait,
+                Clock.systemUTC());
+    }
+
+    UpstreamAdmissionScheduler(
+            boolean enabled,
+            int initialLimit,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            int reservedForHighPriority,
+            int maxQueueSize,
+            Duration maxQueueWait,
+            Clock clock) {
+        this.enabled = enabled;
+        this.estimatedLimit = Math.max(1, initialLimit);
+        this.estimatedBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.reservedForHighPriority = reservedForHighPriority;
+        this.maxQueueSize = maxQueueSize;
+        this.maxQueueWait = maxQueueWait;
+        this.clock = clock;
+    }
+
+    public <T> Mono<T> schedule(UpstreamPriority priority, Supplier<Mono<T>> call) {
+        if (!enabled) {
+            return Mono.defer(call);
+        }
+        return admitAndCall(priority, call).onErrorResume(Throttled.class, throttled -> admitAndCall(priority, call)
+                .onErrorMap(Throttled.class, Throttled::getCause));
+    }
+
+    private <T> Mono<T> admitAndCall(UpstreamPriority priority, Supplier<Mono<T>> call) {
+        return acquire(priority).flatMap(permit -> {
+            AtomicBoolean sent = new AtomicBoolean();
+            return Mono.defer(() -> {
+                        sent.set(true);
+                        return call.get();
+                    })
+                    .doOnSuccess(ignored -> onAccepted(permit))
+                    .onErrorMap(TooManyRequestException.class, tooManyRequests -> {
+                        onThrottled(permit);
+                        return new Throttled(tooManyRequests);
+                    })
+                    .doOnError(error -> !(error instanceof Throttled), error -> onAccepted(permit))
+                    .doOnCancel(() -> onCancelled(permit, sent.get()));
+        });
+    }
+
+    public synchronized int getEstimatedLimit() {
+        return estimatedLimit;
+    }
+
+    public synchronized Duration getEstimatedBackoff() {
+        return estimatedBackoff;
+    }
+
+    public synchronized int getRemainingBudget() {
+        rollWindow(clock.instant());
+        return lockedUntil != null ? 0 : Math.max(0, admissionLimit() - usedInWindow);
+    }
+
+    public synchronized int getQueueSize() {
+        return waiters.size();
+    }
+
+    private Mono<Permit> acquire(UpstreamPriority priority) {
+        return Mono.defer(() -> {
+            Waiter waiter;
+            synchronized (this) {
+                Instant now = clock.instant();
+                rollWindow(now);
+                if (waiters.isEmpty() && canAdmit(priority)) {
+                    return Mono.just(grant(now));
+                }
+                Duration expectedWait = expectedWait(now, priority);
+                if (waiters.size() >= maxQueueSize || expectedWait.compareTo(maxQueueWait) > 0) {
+                    log.warn(
+                            "acquire- Rejecting {} upstream call, expected wait {} exceeds budget",
+                            priority,
+                            expectedWait);
+                    return Mono.error(new TooManyRequestException());
+                }
+                waiter = new Waiter(priority, sequence++, Sinks.one(), new AtomicBoolean());
+                waiters.add(waiter);
+                scheduleDrain(now.plus(expectedWait));
+            }
+            return waiter.sink()
+                    .asMono()
+                    .timeout(maxQueueWait, Mono.defer(() -> abandon(waiter)))
+                    .doOnCancel(() -> abandon(waiter).subscribe(this::release, ignored -> {}));
+        });
+    }
+
+    /**
+     * Removes a waiter that gave up. If the drain granted it a permit at the same moment, the permit is handed out
+     * anyway so that it is not lost.
+     */
+    private Mono<Permit> abandon(Waiter waiter) {
+        if (waiter.done().compareAndSet(false, true)) {
+            synchronized (this) {
+                waiters.remove(waiter);
+            }
+            return Mono.error(new TooManyRequestException());
+        }
+        return waiter.sink().asMono();
+    }
+
+    private synchronized void release(Permit permit) {
+        usedInWindow = Math.max(0, usedInWindow - 1);
+        if (permit.probe()) {
+            probeInFlight = false;
+        }
+    }
+
+    private void drain() {
+        List<Grant> grants = new ArrayList<>();
+        synchronized (this) {
+            drainScheduledFor = null;
+            Instant now = clock.instant();
+            rollWindow(now);
+            while (!waiters.isEmpty() && canAdmit(waiters.peek().priority())) {
+                Waiter waiter = waiters.poll();
+                if (waiter.done().compareAndSet(false, true)) {
+                    grants.add(new Grant(waiter, grant(now)));
+                }
+            }
+            if (!waiters.isEmpty()) {
+                scheduleDrain(lockedUntil != null ? lockedUntil : now.plus(MIN_LOCKOUT));
+            }
+        }
+        grants.forEach(grant -> grant.waiter().sink().tryEmitValue(grant.permit()));
+    }
+
+    private void scheduleDrain(Instant at) {
+        if (drainScheduledFor != null && !drainScheduledFor.isAfter(at)) {
+            return;
+        }
+        drainScheduledFor = at;
+        long delayMillis = Math.max(0, Duration.between(clock.instant(), at).toMillis());
+        Schedulers.parallel().schedule(this::drain, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void rollWindow(Instant now) {
+        if (lockedUntil != null && !now.isBefore(lockedUntil)) {
+            lockedUntil = null;
+            usedInWindow = 0;
+            acceptedInWindow = 0;
+            previousWindowLastAcceptedSentAt = lastAcceptedSentAt;
+            probeMeasuresBackoff = lockoutConfirmed;
+            lockoutConfirmed = false;
+            probeInFlight = false;
+        }
+    }
+
+    private boolean canAdmit(UpstreamPriority priority) {
+        if (lockedUntil != null || probeInFlight) {
+            return false;
+        }
+        int reserve = priority == UpstreamPriority.HIGH ? 0 : reservedForHighPriority;
+        return usedInWindow < admissionLimit() - reserve;
+    }
+
+    /**
+     * Until a 429 has confirmed the limit, one request beyond the estimate is allowed so that a conservative initial
+     * estimate can still grow.
+     */
+    private int admissionLimit() {
+        return limitConfirmed ? estimatedLimit : estimatedLimit + 1;
+    }
+
+    private Permit grant(Instant now) {
+        boolean probe = usedInWindow == 0 && previousWindowLastAcceptedSentAt != null;
+        usedInWindow++;
+        probeInFlight = probe;
+        if (usedInWindow >= admissionLimit()) {
+            lockedUntil = now.plus(estimatedBackoff);
+        }
+        return new Permit(now, probe);
+    }
+
+    private Duration expectedWait(Instant now, UpstreamPriority priority) {
+        Duration untilUnlocked = lockedUntil == null ? Duration.ZERO : Duration.between(now, lockedUntil);
+        long ahead = waiters.stream()
+                .filter(waiter -> waiter.priority().compareTo(priority) >= 0)
+                .count();
+        long windowsAhead = ahead / Math.max(1, estimatedLimit);
+        return untilUnlocked.plus(estimatedBackoff.multipliedBy(windowsAhead));
+    }
+
+    private void onAccepted(Permit permit) {
+        synchronized (this) {
+            acceptedInWindow++;
+            if (lastAcceptedSentAt == null || permit.sentAt().isAfter(lastAcceptedSentAt)) {
+                lastAcceptedSentAt = permit.sentAt();
+            }
+            if (acceptedInWindow > estimatedLimit) {
+                estimatedLimit = acceptedInWindow;
+            }
+            if (permit.probe()) {
+                probeInFlight = false;
+                if (probeMeasuresBackoff) {
+                    Duration elapsed = Duration.between(previousWindowLastAcceptedSentAt, permit.sentAt());
+                    if (elapsed.compareTo(estimatedBackoff) < 0) {
+                        estimatedBackoff = elapsed;
+                    }
+                }
+            }
+        }
+        drain();
+    }
+
+    /**
+     * A cancelled call says nothing about the upstream's limit, so it never counts as accepted. Its permit only goes
+     * back to the budget if the call was never sent; once sent, the upstream may have counted it, so the slot stays
+     * used for the rest of the window. A cancelled probe no longer holds back the calls queued behind it.
+     */
+    private void onCancelled(Permit permit, boolean sent) {
+        if (!sent) {
+            release(permit);
+        } else if (permit.probe()) {
+            synchronized (this) {
+                probeInFlight = false;
+            }
+        }
+        drain();
+    }
+
+    private void onThrottled(Permit permit) {
+        synchronized (this) {
+            Instant now = clock.instant();
+            if (acceptedInWindow > 0) {
+                estimatedLimit = acceptedInWindow;
+                limitConfirmed = true;
+            } else if (permit.probe() && previousWindowLastAcceptedSentAt != null) {
+                Duration elapsed = Duration.between(previousWindowLastAcceptedSentAt, permit.sentAt());
+                Duration widened =
+                        max(estimatedBackoff, elapsed).multipliedBy(3).dividedBy(2);
+                estimatedBackoff = widened.compareTo(maxBackoff) > 0 ? maxBackoff : widened;
+            }
+            lockoutConfirmed = true;
+            probeInFlight = false;
+            usedInWindow = admissionLimit();
+            Instant anchor = lastAcceptedSentAt != null ? lastAcceptedSentAt : permit.sentAt();
+            lockedUntil = max(anchor.plus(estimatedBackoff), now.plus(MIN_LOCKOUT));
+            log.warn(
+                    "onThrottled- Upstream rate limited, estimated limit {} backoff {}, locked until {}",
+                    estimatedLimit,
+                    estimatedBackoff,
+                    lockedUntil);
+        }
+    }
+
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    private static Instant max(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record Permit(Instant sentAt, boolean probe) {}
+
+    private record Waiter(UpstreamPriority priority, long sequence, Sinks.One<Permit> sink, AtomicBoolean done) {}
+
+    private record Grant(Waiter waiter, Permit permit) {}
+
+    private static class Throttled extends RuntimeException {
+        Throttled(TooManyRequestException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized TooManyRequestException getCause() {
+            return (TooManyRequestException) super.getCause();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InternalServerError;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times each upstream exchange, tagged with the client operation and how it ended, with a percentile histogram so
+ * latency SLOs can be read from the scrape. Only the exchange itself is timed: waiting for admission and the backoff
+ * between retries are not, and every attempt of a retried or hedged read is recorded on its own.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamCallMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> Mono<T> timed(String operation, Mono<T> exchange) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return exchange.doOnSuccess(ignored -> stop(sample, operation, "success"))
+                    .doOnError(ex -> stop(sample, operation, outcome(ex)))
+                    .doOnCancel(() -> stop(sample, operation, "cancelled"));
+        });
+    }
+
+    private void stop(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder(Constants.METRICS.UPSTREAM_REQUESTS)
+                .description("Upstream employee API exchanges")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static String outcome(Throwable ex) {
+        if (ex instanceof TooManyRequestException) {
+            return "too_many_requests";
+        }
+        if (ex instanceof InternalServerError) {
+            return "server_error";
+        }
+        if (ex instanceof EmployeeNotFoundException) {
+            return "not_found";
+        }
+        if (ex instanceof WebClientResponseException) {
+            return "client_error";
+        }
+        if (ex instanceof WebClientRequestException) {
+            return "io_error";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,11 @@
+package com.reliaquest.api.service.consumer.impl;
+
+/**
+ * Relative value of an upstream call when the rate budget is scarce. Higher priorities are admitted first and may use
+ * the part of the budget that is held back from lower ones.
+ */
+public enum UpstreamPriority {
+    LOW,
+    NORMAL,
+    HIGH
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import com.reliaquest.api.exception.BaseException;
+import com.reliaquest.api.exception.InternalServerError;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Retry and hedging rules for idempotent upstream reads.
+ *
+ * <p>Reads are retried with exponential backoff and jitter on 5xx responses, connection failures and timeouts, within
+ * a per-call attempt and time budget. Rate limiting (429) is left to {@link UpstreamAdmissionScheduler} and 404s are
+ * never retried. Writes must not be routed through this policy: neither create nor delete-by-name is idempotent.
+ *
+ * <p>When hedging is enabled, a second attempt is started if the first has not answered within the observed p95
+ * latency, clamped to {@code hedge.min-delay..hedge.max-delay} so a slow tail cannot push it out of reach, and
+ * whichever attempt answers first wins.
+ */
+@Component
+@Slf4j
+public class UpstreamResiliencePolicy {
+
+    private static final double HEDGE_PERCENTILE = 95.0;
+
+    private final int maxRetries;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final Duration readTimeBudget;
+    private final boolean hedgeEnabled;
+    private final Duration hedgeMinDelay;
+    private final Duration hedgeMaxDelay;
+    private final LatencyTracker hedgedLatency = new LatencyTracker(256, 20);
+
+    @Autowired
+    public UpstreamResiliencePolicy(
+            @Value("${custom.api.resilience.read-retry.max-retries:2}") int maxRetries,
+            @Value("${custom.api.resilience.read-retry.min-backoff:100ms}") Duration minBackoff,
+            @Value("${custom.api.resilience.read-retry.max-backoff:1s}") Duration maxBackoff,
+            @Value("${custom.api.resilience.read-retry.jitter:0.5}") double jitter,
+            @Value("${custom.api.resilience.read-time-budget:10s}") Duration readTimeBudget,
+            @Value("${custom.api.resilience.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${custom.api.resilience.hedge.min-delay:50ms}") Duration hedgeMinDelay,
+            @Value("${custom.api.resilience.hedge.max-delay:2s}") Duration hedgeMaxDelay) {
+        this.maxRetries = maxRetries;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.readTimeBudget = readTimeBudget;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelay = hedgeMinDelay;
+        this.hedgeMaxDelay = hedgeMaxDelay;
+    }
+
+    public <T> Mono<T> retryingRead(String operation, Supplier<Mono<T>> attempt) {
+        return Mono.defer(attempt)
+                .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(jitter)
+                        .filter(UpstreamResiliencePolicy::isRetryable)
+                        .doBeforeRetry(signal -> log.warn(
+                                "retryingRead- Retrying {} after attempt {} failed: {}",
+                                operation,
+                                signal.totalRetries() + 1,
+                                signal.failure().toString()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .timeout(readTimeBudget)
+                .onErrorMap(
+                        TimeoutException.class, timeout -> new InternalServerError(HttpStatus.GATEWAY_TIMEOUT.value()));
+    }
+
+    public <T> Mono<T> hedgedRead(Supplier<Mono<T>> attempt) {
+        if (!hedgeEnabled) {
+            return timed(attempt);
+        }
+        return Mono.defer(() -> {
+            Mono<T> primary = timed(attempt).share();
+            return primary.timeout(hedgeDelay(), Mono.defer(() -> Mono.firstWithValue(primary, timed(attempt))
+                    .onErrorMap(NoSuchElementException.class, UpstreamResiliencePolicy::firstFailure)));
+        });
+    }
+
+    public Duration hedgeDelay() {
+        Duration p95 = hedgedLatency.percentile(HEDGE_PERCENTILE);
+        if (p95 == null) {
+            return hedgeMaxDelay;
+        }
+        if (p95.compareTo(hedgeMinDelay) < 0) {
+            return hedgeMinDelay;
+        }
+        return p95.compareTo(hedgeMaxDelay) > 0 ? hedgeMaxDelay : p95;
+    }
+
+    private <T> Mono<T> timed(Supplier<Mono<T>> attempt) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return attempt.get()
+                    .doOnSuccess(ignored -> hedgedLatency.record(Duration.ofNanos(System.nanoTime() - start)));
+        });
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        return error instanceof InternalServerError
+                || error instanceof WebClientRequestException
+                || error instanceof TimeoutException;
+    }
+
+    private static Throwable firstFailure(NoSuchElementException allFailed) {
+        if (allFailed.getCause() == null) {
+            return allFailed;
+        }
+        List<Throwable> failures = Exceptions.unwrapMultiple(allFailed.getCause());
+        return failures.stream()
+                .filter(BaseException.class::isInstance)
+                .findFirst()
+                .orElse(failures.get(0));
+    }
+}
@@ -15,6 +15,14 @@ public interface IEmployeeService {
 
     List<String> getTopTenHighestEarningEmployeeNames();
 
+    List<Employee> getTopEarningEmployees(int n);
+
+    Integer getSalaryRankOfEmployee(String id);
+
+    Integer getCountOfEmployeesEarningMoreThan(int salary);
+
+    Integer getSalaryPercentile(double percentile);
+
     Employee createEmployee(CreateEmployeeInput employeeInput);
 
     String deleteEmployee(String id);
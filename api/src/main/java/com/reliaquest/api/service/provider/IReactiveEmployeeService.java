@@ -0,0 +1,33 @@
+package com.reliaquest.api.service.provider;
+
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link IEmployeeService}, used when the api runs on the reactive web stack.
+ */
+public interface IReactiveEmployeeService {
+    Flux<Employee> getAllEmployees();
+
+    Flux<Employee> getEmployeesByNameSearch(String searchString);
+
+    Mono<Employee> getEmployeeById(String id);
+
+    Mono<Integer> getHighestSalaryOfEmployees();
+
+    Flux<String> getTopTenHighestEarningEmployeeNames();
+
+    Flux<Employee> getTopEarningEmployees(int n);
+
+    Mono<Integer> getSalaryRankOfEmployee(String id);
+
+    Mono<Integer> getCountOfEmployeesEarningMoreThan(int salary);
+
+    Mono<Integer> getSalaryPercentile(double percentile);
+
+    Mono<Employee> createEmployee(CreateEmployeeInput employeeInput);
+
+    Mono<String> deleteEmployee(String id);
+}
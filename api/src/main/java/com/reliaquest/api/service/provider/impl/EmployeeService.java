@@ -1,16 +1,20 @@
 package com.reliaquest.api.service.provider.impl;
 
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.exception.BadRequestException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
-import com.reliaquest.api.model.Top10Employees;
 import com.reliaquest.api.service.consumer.impl.EmployeeClient;
 import com.reliaquest.api.service.provider.IEmployeeService;
+import com.reliaquest.api.timing.ServerTiming;
+import com.reliaquest.api.util.Constants;
+import com.reliaquest.api.util.LogSummary;
 import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -18,30 +22,28 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class EmployeeService implements IEmployeeService {
 
+    private static final int TOP_EARNER_NAMES = 10;
+
     @Autowired
     EmployeeClient employeeClient;
 
     @Autowired
-    Top10Employees top10Employees;
+    EmployeeSnapshotCache employeeSnapshotCache;
 
     @Override
     public List<Employee> getAllEmployees() {
-        List<Employee> employees = employeeClient.getAllEmployees();
-        if (top10Employees.getTop10Employees().isEmpty()) {
-            top10Employees.addEmployees(employees);
-        }
+        List<Employee> employees = loadSnapshot().getEmployees();
         log.info("getAllEmployees - No of Employees {}", employees.size());
         return employees;
     }
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        final List<Employee> allEmployees = getAllEmployees();
-        final List<Employee> filteredEmployees = allEmployees.parallelStream()
-                .filter(employee -> StringUtils.containsIgnoreCase(employee.getEmployeeName(), searchString))
-                .toList();
+        final EmployeeSnapshot snapshot = loadSnapshot();
+        final List<Employee> filteredEmployees =
+                ServerTiming.time("search", () -> snapshot.getNameIndex().search(searchString));
 
-        log.info("getEmployeesByNameSearch: Search Results {}", filteredEmployees);
+        log.info("getEmployeesByNameSearch: Search Results {}", LogSummary.employees(filteredEmployees));
 
         return filteredEmployees;
     }
@@ -50,52 +52,99 @@ public class EmployeeService implements IEmployeeService {
     public Employee getEmployeeById(String id) {
         log.info("getEmployeeById- Get employee by Id {}", id);
 
-        Optional<Employee> optionalEmployee = employeeClient.getEmployeeById(id);
+        Optional<Employee> cachedEmployee = employeeSnapshotCache
+                .getIfFresh()
+                .map(snapshot -> snapshot.getEmployeesById().get(id));
+        if (cachedEmployee.isPresent()) {
+            log.info("getEmployeeById- employee served from snapshot : {}", LogSummary.employee(cachedEmployee.get()));
+            return cachedEmployee.get();
+        }
+
+        Optional<Employee> optionalEmployee;
+        try {
+            optionalEmployee = employeeClient.getEmployeeById(id);
+        } catch (EmployeeNotFoundException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            Employee staleEmployee = employeeSnapshotCache.getIfStaleOnError(id).orElseThrow(() -> ex);
+            log.warn(
+                    "getEmployeeById- Upstream lookup failed, serving employee {} from stale snapshot: {}",
+                    id,
+                    ex.toString());
+            return staleEmployee;
+        }
 
         if (optionalEmployee.isEmpty()) {
             log.error("getEmployeeById- Employee Not Found with id {}", id);
             throw new EmployeeNotFoundException(id);
         }
 
-        log.info("getEmployeeById- employee found : {}", optionalEmployee.get());
+        log.info("getEmployeeById- employee found : {}", LogSummary.employee(optionalEmployee.get()));
         return optionalEmployee.get();
     }
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        Employee highestSalaryEmployee = top10Employees.getHighestSalaryEmployee();
-        if (highestSalaryEmployee != null) {
-            return highestSalaryEmployee.getEmployeeSalary();
-        }
-        log.info("top10 list is not ready, fetching all employees");
-        getAllEmployees();
-        log.info("Refilled top10 Employee List");
-        highestSalaryEmployee = top10Employees.getHighestSalaryEmployee();
-        if (highestSalaryEmployee != null) {
-            return highestSalaryEmployee.getEmployeeSalary();
+        List<Employee> highestPaid = loadSnapshot().getSalaryIndex().topN(1);
+        if (!highestPaid.isEmpty()) {
+            return highestPaid.get(0).getEmployeeSalary();
         }
-        log.info("Found no employees after refilling top10 list");
+        log.info("Found no employees in the roster");
         return null;
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
-        List<Employee> top10EmployeeList = top10Employees.getTop10Employees();
-        if (top10EmployeeList.size() == 10) {
-            return top10EmployeeList.stream().map(Employee::getEmployeeName).toList();
+        return loadSnapshot().getSalaryIndex().topN(TOP_EARNER_NAMES).stream()
+                .map(Employee::getEmployeeName)
+                .toList();
+    }
+
+    @Override
+    public List<Employee> getTopEarningEmployees(int n) {
+        if (n < 1) {
+            throw new BadRequestException(Constants.MESSAGES.INVALID_TOP_N_MESSAGE);
         }
-        log.info("top10 list is not ready, fetching all employees");
-        getAllEmployees();
-        log.info("top10 List is filled. Returning the list");
-        top10EmployeeList = top10Employees.getTop10Employees();
-        return top10EmployeeList.stream().map(Employee::getEmployeeName).toList();
+        List<Employee> topEarners = loadSnapshot().getSalaryIndex().topN(n);
+        log.info("getTopEarningEmployees- Top {} earners requested, returning {}", n, topEarners.size());
+        return topEarners;
+    }
+
+    @Override
+    public Integer getSalaryRankOfEmployee(String id) {
+        EmployeeSnapshot snapshot = loadSnapshot();
+        Employee employee = snapshot.getEmployeesById().get(id);
+        if (employee == null || employee.getEmployeeSalary() == null) {
+            log.error("getSalaryRankOfEmployee- Employee Not Found with id {}", id);
+            throw new EmployeeNotFoundException(id);
+        }
+        int rank = snapshot.getSalaryIndex().rankOf(employee.getEmployeeSalary());
+        log.info("getSalaryRankOfEmployee- Employee {} ranks {}", id, rank);
+        return rank;
+    }
+
+    @Override
+    public Integer getCountOfEmployeesEarningMoreThan(int salary) {
+        int count = loadSnapshot().getSalaryIndex().countEarningMoreThan(salary);
+        log.info("getCountOfEmployeesEarningMoreThan- {} employees earn more than {}", count, salary);
+        return count;
+    }
+
+    @Override
+    public Integer getSalaryPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new BadRequestException(Constants.MESSAGES.INVALID_PERCENTILE_MESSAGE);
+        }
+        Integer salary = loadSnapshot().getSalaryIndex().percentile(percentile);
+        log.info("getSalaryPercentile- p{} salary {}", percentile, salary);
+        return salary;
     }
 
     @Override
     public Employee createEmployee(CreateEmployeeInput employeeInput) {
         Employee employee = employeeClient.createEmployee(employeeInput);
-        log.info("createEmployee- Employee Created {}", employee);
-        top10Employees.addEmployee(employee);
+        log.info("createEmployee- Employee Created {}", LogSummary.employee(employee));
+        employeeSnapshotCache.applyCreated(employee);
         return employee;
     }
 
@@ -106,9 +155,13 @@ public class EmployeeService implements IEmployeeService {
                 DeleteEmployeeInput.builder().name(employee.getEmployeeName()).build();
         String status = employeeClient.deleteEmployee(input);
         log.info("DeleteEmployee: Employee deletion status {}", status);
-        top10Employees.deleteEmployee(employee);
+        employeeSnapshotCache.applyDeleted(employee);
         final String employeeName = employee.getEmployeeName();
         log.info("DeleteEmployee: Employee Name {}", employeeName);
         return employeeName;
     }
+
+    private EmployeeSnapshot loadSnapshot() {
+        return ServerTiming.time("snapshot", () -> employeeSnapshotCache.getOrLoad(employeeClient::getAllEmployees));
+    }
 }
@@ -0,0 +1,147 @@
+package com.reliaquest.api.service.provider.impl;
+
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.consumer.impl.ReactiveEmployeeClient;
+import com.reliaquest.api.service.provider.IReactiveEmployeeService;
+import com.reliaquest.api.util.Constants;
+import com.reliaquest.api.util.LogSummary;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Slf4j
+public class ReactiveEmployeeService implements IReactiveEmployeeService {
+
+    private static final int TOP_EARNER_NAMES = 10;
+
+    @Autowired
+    ReactiveEmployeeClient reactiveEmployeeClient;
+
+    @Autowired
+    EmployeeSnapshotCache employeeSnapshotCache;
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return loadSnapshot()
+                .doOnNext(snapshot -> log.info(
+                        "getAllEmployees - No of Employees {}",
+                        snapshot.getEmployees().size()))
+                .flatMapIterable(EmployeeSnapshot::getEmployees);
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByNameSearch(String searchString) {
+        return loadSnapshot()
+                .map(snapshot -> snapshot.getNameIndex().search(searchString))
+                .doOnNext(filteredEmployees -> log.info(
+                        "getEmployeesByNameSearch: Search Results {}", LogSummary.employees(filteredEmployees)))
+                .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(String id) {
+        log.info("getEmployeeById- Get employee by Id {}", id);
+        return Mono.justOrEmpty(employeeSnapshotCache.getIfFresh().map(snapshot -> snapshot.getEmployeesById()
+                        .get(id)))
+                .switchIfEmpty(reactiveEmployeeClient
+                        .getEmployeeById(id)
+                        .onErrorResume(ex -> !(ex instanceof EmployeeNotFoundException), ex -> employeeSnapshotCache
+                                .getIfStaleOnErrorAsync(id)
+                                .doOnNext(ignored -> log.warn(
+                                        "getEmployeeById- Upstream lookup failed, serving employee {} from stale snapshot: {}",
+                                        id,
+                                        ex.toString()))
+                                .switchIfEmpty(Mono.error(ex))))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("getEmployeeById- Employee Not Found with id {}", id);
+                    return new EmployeeNotFoundException(id);
+                }))
+                .doOnNext(employee -> log.info("getEmployeeById- employee found : {}", LogSummary.employee(employee)));
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalaryOfEmployees() {
+        return loadSnapshot()
+                .flatMapIterable(snapshot -> snapshot.getSalaryIndex().topN(1))
+                .next()
+                .map(Employee::getEmployeeSalary);
+    }
+
+    @Override
+    public Flux<String> getTopTenHighestEarningEmployeeNames() {
+        return loadSnapshot()
+                .flatMapIterable(snapshot -> snapshot.getSalaryIndex().topN(TOP_EARNER_NAMES))
+                .map(Employee::getEmployeeName);
+    }
+
+    @Override
+    public Flux<Employee> getTopEarningEmployees(int n) {
+        if (n < 1) {
+            return Flux.error(new BadRequestException(Constants.MESSAGES.INVALID_TOP_N_MESSAGE));
+        }
+        return loadSnapshot()
+                .flatMapIterable(snapshot -> snapshot.getSalaryIndex().topN(n));
+    }
+
+    @Override
+    public Mono<Integer> getSalaryRankOfEmployee(String id) {
+        return loadSnapshot()
+                .flatMap(
+                        snapshot -> Mono.justOrEmpty(snapshot.getEmployeesById().get(id))
+                                .mapNotNull(Employee::getEmployeeSalary)
+                                .map(salary -> snapshot.getSalaryIndex().rankOf(salary)))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("getSalaryRankOfEmployee- Employee Not Found with id {}", id);
+                    return new EmployeeNotFoundException(id);
+                }));
+    }
+
+    @Override
+    public Mono<Integer> getCountOfEmployeesEarningMoreThan(int salary) {
+        return loadSnapshot().map(snapshot -> snapshot.getSalaryIndex().countEarningMoreThan(salary));
+    }
+
+    @Override
+    public Mono<Integer> getSalaryPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            return Mono.error(new BadRequestException(Constants.MESSAGES.INVALID_PERCENTILE_MESSAGE));
+        }
+        return loadSnapshot().mapNotNull(snapshot -> snapshot.getSalaryIndex().percentile(percentile));
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(CreateEmployeeInput employeeInput) {
+        return reactiveEmployeeClient.createEmployee(employeeInput).doOnNext(employee -> {
+            log.info("createEmployee- Employee Created {}", LogSummary.employee(employee));
+            employeeSnapshotCache.applyCreated(employee);
+        });
+    }
+
+    @Override
+    public Mono<String> deleteEmployee(String id) {
+        return getEmployeeById(id).flatMap(employee -> reactiveEmployeeClient
+                .deleteEmployee(DeleteEmployeeInput.builder()
+                        .name(employee.getEmployeeName())
+                        .build())
+                .doOnNext(status -> log.info("DeleteEmployee: Employee deletion status {}", status))
+                .then(Mono.fromSupplier(() -> {
+                    employeeSnapshotCache.applyDeleted(employee);
+                    log.info("DeleteEmployee: Employee Name {}", employee.getEmployeeName());
+                    return employee.getEmployeeName();
+                })));
+    }
+
+    private Mono<EmployeeSnapshot> loadSnapshot() {
+        return employeeSnapshotCache.getOrLoadAsync(reactiveEmployeeClient::getAllEmployeesAsList);
+    }
+}
@@ -0,0 +1,89 @@
+package com.reliaquest.api.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Time spent per phase of one request, for the {@code Server-Timing} header and the timing log line. The collector is
+ * bound to the request thread by {@link ServerTimingFilter} and carried into reactive upstream calls through the Reactor
+ * context, so work done on I/O threads is attributed to the request that asked for it. Phases may overlap (upstream
+ * time is part of the snapshot load, for example), and a phase entered more than once adds up.
+ *
+ * <p>Every static method is a no-op when the current request is not being timed.
+ */
+public final class ServerTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final String CONTEXT_KEY = ServerTiming.class.getName();
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Long> nanosByPhase = new LinkedHashMap<>();
+
+    ServerTiming() {}
+
+    public static <T> T time(String phase, Supplier<T> work) {
+        ServerTiming timing = CURRENT.get();
+        if (timing == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            timing.add(phase, System.nanoTime() - start);
+        }
+    }
+
+    /** Passes the current request's collector to a reactive chain; use with {@code contextWrite}. */
+    public static Context propagate(Context context) {
+        ServerTiming timing = CURRENT.get();
+        return timing == null ? context : context.put(CONTEXT_KEY, timing);
+    }
+
+    /** The collector a reactive chain was subscribed with, or null. */
+    public static ServerTiming from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    public synchronized void add(String phase, long nanos) {
+        nanosByPhase.merge(phase, nanos, Long::sum);
+    }
+
+    static ServerTiming bind() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /** {@code phase;dur=<ms>} entries in the order phases were first recorded. */
+    synchronized String headerValue() {
+        StringJoiner header = new StringJoiner(", ");
+        nanosByPhase.forEach((phase, nanos) -> header.add(phase + ";dur=" + millis(nanos)));
+        return header.toString();
+    }
+
+    /** {@code phase=<ms>ms} pairs for the timing log line. */
+    synchronized String logValue() {
+        StringJoiner line = new StringJoiner(" ");
+        nanosByPhase.forEach((phase, nanos) -> line.add(phase + "=" + millis(nanos) + "ms"));
+        return line.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.api.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Times requests that carry the debug header, or every request when timing is enabled, and reports the phases as a
+ * {@code Server-Timing} header and a log line. The response body is buffered so that serialization can be measured and
+ * the header still sent ahead of it; streamed (ndjson) responses are left untimed since they cannot be buffered.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HANDLER = "handler";
+    static final String SERIALIZE = "serialize";
+    static final String TOTAL = "total";
+
+    private static final String SERIALIZE_START_ATTRIBUTE = ServerTimingFilter.class.getName() + ".serializeStart";
+
+    @Value("${custom.api.server-timing.enabled:false}")
+    private boolean alwaysEnabled;
+
+    @Value("${custom.api.server-timing.request-header:X-Debug-Timing}")
+    private String requestHeader = "X-Debug-Timing";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!alwaysEnabled && request.getHeader(requestHeader) == null) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper bufferedResponse = new ContentCachingResponseWrapper(response);
+        ServerTiming timing = ServerTiming.bind();
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, bufferedResponse);
+        } finally {
+            ServerTiming.unbind();
+            long end = System.nanoTime();
+            Object serializeStart = request.getAttribute(SERIALIZE_START_ATTRIBUTE);
+            if (serializeStart instanceof Long bodyWriteStart) {
+                timing.add(HANDLER, bodyWriteStart - start);
+                timing.add(SERIALIZE, end - bodyWriteStart);
+            }
+            timing.add(TOTAL, end - start);
+            bufferedResponse.setHeader(ServerTiming.HEADER, timing.headerValue());
+            log.info(
+                    "serverTiming- method={} uri={} status={} {}",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    bufferedResponse.getStatus(),
+                    timing.logValue());
+            bufferedResponse.copyBodyToResponse();
+        }
+    }
+
+    /** Called just before the response body is written; everything after it is serialization. */
+    static void markSerializeStart(HttpServletRequest request) {
+        if (ServerTiming.current() != null) {
+            request.setAttribute(SERIALIZE_START_ATTRIBUTE, System.nanoTime());
+        }
+    }
+}
@@ -6,12 +6,27 @@ public interface Constants {
         String INTERNAL_SERVER_ERROR_OCCURRED_MESSAGE = "Internal Server Error Occurred While calling API";
         String JSON_PARSING_EXCEPTION_MESSAGE = "Json Parsing Exception while extracting api response";
         String EMPLOYEE_NOT_FOUND_WITH_ID_MESSAGE = "Employee Not found with id ";
+        String EMPLOYEE_NOT_FOUND_WITH_NAME_MESSAGE = "Employee Not found with name ";
         String TOO_MANY_REQUESTS_MESSAGE = "Too Many Requests, Please wait for some time.";
+        String INVALID_TOP_N_MESSAGE = "n must be at least 1";
+        String INVALID_PERCENTILE_MESSAGE = "percentile must be between 0 and 100";
     }
 
     interface API_PATH_EMPLOYEE {
         String BASE = "/api/v1/employee";
 
         String GET_BY_ID = "/api/v1/employee/{id}";
+
+        String BATCH = "/api/v1/employee/batch";
+    }
+
+    interface METRICS {
+        String UPSTREAM_REQUESTS = "employee.upstream.requests";
+
+        String API_EXCEPTIONS = "employee.api.exceptions";
+
+        String SALARY_INDEX_SIZE = "employee.salary.index.size";
+
+        String ROSTER_SIZE = "employee.roster.size";
     }
 }
@@ -0,0 +1,28 @@
+package com.reliaquest.api.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks the requests whose full payload is logged at debug: the first call to each endpoint and then one in every
+ * {@code custom.logging.debug-sample-every}. With debug off for the logger this is a single level check.
+ */
+@Component
+public class LogSampler {
+
+    @Value("${custom.logging.debug-sample-every:100}")
+    private long sampleEvery = 100;
+
+    private final ConcurrentHashMap<String, AtomicLong> calls = new ConcurrentHashMap<>();
+
+    public boolean sample(Logger log, String endpoint) {
+        if (!log.isDebugEnabled()) {
+            return false;
+        }
+        long call = calls.computeIfAbsent(endpoint, ignored -> new AtomicLong()).getAndIncrement();
+        return call % Math.max(sampleEvery, 1) == 0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.util;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded log arguments for payloads on the request path. Each is formatted only if its log line is actually written,
+ * and what is written is capped: collections become their size plus the first few ids or values, and anything else is
+ * cut at a fixed length. Full payloads belong in sampled debug lines, see {@link LogSampler}.
+ */
+public final class LogSummary {
+
+    static final int MAX_ITEMS = 5;
+
+    static final int MAX_DETAIL_CHARS = 2048;
+
+    private LogSummary() {}
+
+    /** {@code count=N ids=[a, b, c, ...+K]} */
+    public static Object employees(Collection<Employee> employees) {
+        return lazy(() -> "count=" + employees.size() + " ids=" + items(employees, Employee::getId));
+    }
+
+    /** {@code count=N [a, b, c, ...+K]} */
+    public static Object values(Collection<?> values) {
+        return lazy(() -> "count=" + values.size() + " " + items(values, String::valueOf));
+    }
+
+    public static Object employee(Employee employee) {
+        return lazy(() -> employee == null ? "null" : "id=" + employee.getId());
+    }
+
+    /** The argument's own {@code toString()}, cut after {@value #MAX_DETAIL_CHARS} characters. */
+    public static Object detail(Object payload) {
+        return lazy(() -> {
+            String text = String.valueOf(payload);
+            return text.length() <= MAX_DETAIL_CHARS
+                    ? text
+                    : text.substring(0, MAX_DETAIL_CHARS) + "...(" + (text.length() - MAX_DETAIL_CHARS)
+                            + " more chars)";
+        });
+    }
+
+    private static <T> String items(Collection<T> items, Function<? super T, String> key) {
+        String shown = items.stream().limit(MAX_ITEMS).map(key).collect(Collectors.joining(", "));
+        int hidden = items.size() - MAX_ITEMS;
+        return "[" + shown + (hidden > 0 ? ", ...+" + hidden : "") + "]";
+    }
+
+    private static Object lazy(Supplier<String> format) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return format.get();
+            }
+        };
+    }
+}
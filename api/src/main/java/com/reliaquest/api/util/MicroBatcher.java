@@ -0,0 +1,79 @@
+package com.reliaquest.api.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Groups individual calls into batch calls. Submitted inputs are collected until {@code maxBatchSize} have arrived or
+ * {@code window} has passed since the first of them, then sent together as one batch; the i-th result of the batch
+ * completes the i-th caller. When the batch call fails, or does not return one result per input, every caller in that
+ * batch gets the error.
+ *
+ * <p>Batches are cut with fair backpressure: while {@code maxBatchesInFlight} batch calls are outstanding, a batch
+ * whose window has passed is held back until one of them completes, rather than failing the pipeline.
+ *
+ * @param <I> input of one call
+ * @param <O> result of one call
+ */
+public class MicroBatcher<I, O> implements Disposable {
+
+    private static final Duration EMIT_CONTENTION_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Sinks.Many<Pending<I, O>> pending = Sinks.many().unicast().onBackpressureBuffer();
+
+    private final Disposable batches;
+
+    public MicroBatcher(
+            int maxBatchSize, Duration window, int maxBatchesInFlight, Function<List<I>, Mono<List<O>>> batchCall) {
+        this.batches = pending.asFlux()
+                .bufferTimeout(maxBatchSize, window, true)
+                .flatMap(batch -> send(batch, batchCall), maxBatchesInFlight)
+                .subscribe();
+    }
+
+    public Mono<O> submit(I input) {
+        return Mono.defer(() -> {
+            Sinks.One<O> result = Sinks.one();
+            pending.emitNext(
+                    new Pending<>(input, result), Sinks.EmitFailureHandler.busyLooping(EMIT_CONTENTION_TIMEOUT));
+            return result.asMono();
+        });
+    }
+
+    @Override
+    public void dispose() {
+        pending.tryEmitComplete();
+        batches.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return batches.isDisposed();
+    }
+
+    private Mono<Void> send(List<Pending<I, O>> batch, Function<List<I>, Mono<List<O>>> batchCall) {
+        return Mono.defer(
+                        () -> batchCall.apply(batch.stream().map(Pending::input).toList()))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Batch call completed without results")))
+                .doOnNext(results -> {
+                    if (results.size() != batch.size()) {
+                        throw new IllegalStateException(
+                                "Batch call returned %d results for %d inputs".formatted(results.size(), batch.size()));
+                    }
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result().tryEmitValue(results.get(i));
+                    }
+                })
+                .onErrorResume(error -> {
+                    batch.forEach(call -> call.result().tryEmitError(error));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private record Pending<I, O>(I input, Sinks.One<O> result) {}
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent executions of the same call. While a call for a key is in flight, every other caller asking
+ * for that key subscribes to the same shared {@link Mono} instead of starting a new one. The key is released as soon
+ * as the call terminates, so the next caller after that triggers a fresh execution.
+ *
+ * @param <K> key identifying identical calls
+ * @param <V> result type of the call
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(
+                key, k -> call.get().doFinally(signal -> inFlight.remove(k)).share()));
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
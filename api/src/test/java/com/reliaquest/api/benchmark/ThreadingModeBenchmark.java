@@ -0,0 +1,168 @@
+package com.reliaquest.api.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.api.util.TestStaticEmployees;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Compares the servlet request path on Tomcat's platform-thread pool against virtual threads. Every request is a
+ * blocking {@code GET /employee/{id}} that misses the snapshot and waits on a slow upstream, so the number of requests
+ * in flight is bounded by the request threads rather than by CPU.
+ *
+ * <p>Run with {@code ./gradlew :api:benchmark}; tune with {@code -Pbenchmark.clients}, {@code -Pbenchmark.seconds}
+ * and {@code -Pbenchmark.upstream-delay-ms}. The virtual-thread run is skipped on runtimes older than Java 21, so pass
+ * {@code -PjavaVersion=21}. It is a JUnit test rather than a JMH benchmark in the {@code benchmarks} module because it
+ * measures a whole in-process application per threading mode, not a hot path, and reuses the api test fixtures.
+ */
+@Tag("benchmark")
+class ThreadingModeBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup-seconds", 5));
+
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("benchmark.seconds", 20));
+
+    private static final long UPSTREAM_DELAY_MS = Long.getLong("benchmark.upstream-delay-ms", 50);
+
+    private static final Map<String, Result> results = new LinkedHashMap<>();
+
+    private static DisposableServer upstream;
+
+    @BeforeAll
+    static void startUpstream() {
+        String body = TestStaticEmployees.getAllEmployeeByIdFromApi();
+        upstream = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/api/v1/employee/{id}", (request, response) -> response.header(
+                                HttpHeaderNames.CONTENT_TYPE, "application/json")
+                        .sendString(
+                                Mono.delay(Duration.ofMillis(UPSTREAM_DELAY_MS)).thenReturn(body))))
+                .bindNow();
+    }
+
+    @AfterAll
+    static void report() {
+        upstream.disposeNow();
+        System.out.printf(
+                "%n%-10s %8s %8s %10s %9s %9s %9s%n",
+                "mode", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        results.forEach((mode, result) -> System.out.printf(
+                "%-10s %8d %8d %10.1f %9.1f %9.1f %9.1f%n",
+                mode,
+                result.latencies().getTotalCount(),
+                result.errors(),
+                result.throughput(),
+                millis(result.latencies().getValueAtPercentile(50)),
+                millis(result.latencies().getValueAtPercentile(99)),
+                millis(result.latencies().getMaxValue())));
+    }
+
+    @Test
+    void platformThreads() throws Exception {
+        Result result = benchmark(false);
+        results.put("platform", result);
+        assertThat(result.latencies().getTotalCount()).isPositive();
+    }
+
+    @Test
+    void virtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+        Result result = benchmark(true);
+        results.put("virtual", result);
+        assertThat(result.latencies().getTotalCount()).isPositive();
+    }
+
+    private static Result benchmark(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--custom.api.server-endpoint=http://localhost:" + upstream.port(),
+                        "--custom.api.rate-budget.enabled=false",
+                        "--custom.cache.employees.ttl=0s",
+                        "--custom.api.http-client.pool.max-connections=" + CLIENTS,
+                        "--custom.api.http-client.pool.pending-acquire-max-count=" + CLIENTS * 2,
+                        "--logging.level.root=WARN")) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            load(client, port, WARMUP);
+            return load(client, port, MEASUREMENT);
+        }
+    }
+
+    private static Result load(HttpClient client, int port, Duration duration) {
+        Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<CompletableFuture<Void>> clients = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.add(closedLoop(client, port, deadline, latencies, errors));
+        }
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return new Result(latencies, errors.get(), latencies.getTotalCount() / seconds);
+    }
+
+    /** One simulated client: issues the next request as soon as the previous one completes, until the deadline. */
+    private static CompletableFuture<Void> closedLoop(
+            HttpClient client, int port, long deadline, Histogram latencies, AtomicLong errors) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/employee/" + UUID.randomUUID()))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        long sent = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    latencies.recordValue(Math.min(System.nanoTime() - sent, latencies.getHighestTrackableValue()));
+                    if (error != null || response.statusCode() != 200) {
+                        errors.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> closedLoop(client, port, deadline, latencies, errors));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private record Result(Histogram latencies, long errors, double throughput) {}
+}
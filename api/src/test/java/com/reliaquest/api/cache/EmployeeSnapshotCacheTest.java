@@ -0,0 +1,371 @@
+package com.reliaquest.api.cache;
+
+import static com.reliaquest.api.util.TestStaticEmployees.arleen;
+import static com.reliaquest.api.util.TestStaticEmployees.getAllEmployees;
+import static com.reliaquest.api.util.TestStaticEmployees.luke;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.exception.InternalServerError;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+
+class EmployeeSnapshotCacheTest {
+
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    private AtomicInteger loads;
+
+    private Supplier<List<Employee>> loader;
+
+    @BeforeEach
+    void setUp() {
+        employeeSnapshotCache = new EmployeeSnapshotCache();
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+        loader = () -> {
+            loads.incrementAndGet();
+            return getAllEmployees();
+        };
+    }
+
+    @Test
+    void whenGetOrLoadWithinTtl_thenSameSnapshotIsReturned() {
+        EmployeeSnapshot first = employeeSnapshotCache.getOrLoad(loader);
+        EmployeeSnapshot second = employeeSnapshotCache.getOrLoad(loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getVersion()).isEqualTo(1);
+        assertThat(first.getEmployees()).hasSize(50);
+        assertThat(first.getEmployeesById()).containsKey(arleen().getId());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void whenTtlElapsed_thenNewVersionIsLoaded() {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleWhileRevalidate", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleIfError", Duration.ZERO);
+
+        EmployeeSnapshot first = employeeSnapshotCache.getOrLoad(loader);
+        EmployeeSnapshot second = employeeSnapshotCache.getOrLoad(loader);
+
+        assertThat(second.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(employeeSnapshotCache.getIfFresh()).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void whenStaleWithinRevalidateWindow_thenStaleSnapshotIsServedWhileReloadingInBackground() throws Exception {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        EmployeeSnapshot first = employeeSnapshotCache.getOrLoad(loader);
+        CountDownLatch upstreamAnswers = new CountDownLatch(1);
+
+        EmployeeSnapshot second = employeeSnapshotCache.getOrLoad(() -> {
+            awaitQuietly(upstreamAnswers);
+            return List.of(luke());
+        });
+        upstreamAnswers.countDown();
+
+        assertThat(second).isSameAs(first);
+        for (int i = 0; i < 100 && employeeSnapshotCache.size() != 1; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(employeeSnapshotCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void whenReloadFailsWithinStaleIfErrorWindow_thenStaleSnapshotIsServed() {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleWhileRevalidate", Duration.ZERO);
+        EmployeeSnapshot first = employeeSnapshotCache.getOrLoad(loader);
+
+        EmployeeSnapshot blocking = employeeSnapshotCache.getOrLoad(() -> {
+            throw new TooManyRequestException();
+        });
+        EmployeeSnapshot reactive = employeeSnapshotCache
+                .getOrLoadAsync(() -> Mono.error(new InternalServerError(503)))
+                .block();
+
+        assertThat(blocking).isSameAs(first);
+        assertThat(reactive).isSameAs(first);
+    }
+
+    @Test
+    void whenPastRevalidateWindowWithoutFailure_thenReadersWaitForTheReloadInsteadOfServingStale() {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleWhileRevalidate", Duration.ZERO);
+        employeeSnapshotCache.getOrLoad(loader);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            EmployeeSnapshot blocking = employeeSnapshotCache.getOrLoad(() -> List.of(luke()));
+            HttpHeaders headers = new HttpHeaders();
+            CacheStatus.ofCurrentRequest(false).writeTo(headers, blocking.getLoadedAt());
+
+            assertThat(blocking.getEmployees()).containsExactly(luke());
+            assertThat(headers.getFirst(CacheStatus.HEADER)).doesNotContain("stale-if-error");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        CacheStatus reactiveStatus = new CacheStatus();
+        EmployeeSnapshot reactive = employeeSnapshotCache
+                .getOrLoadAsync(() -> Mono.just(List.of(arleen())))
+                .contextWrite(context -> CacheStatus.bind(context, reactiveStatus))
+                .block();
+        HttpHeaders reactiveHeaders = new HttpHeaders();
+        reactiveStatus.writeTo(reactiveHeaders, reactive.getLoadedAt());
+
+        assertThat(reactive.getEmployees()).containsExactly(arleen());
+        assertThat(reactiveHeaders.getFirst(CacheStatus.HEADER)).doesNotContain("stale-if-error");
+        assertThat(lastFailure()).isNull();
+    }
+
+    @Test
+    void whenReloadHasFailedPastRevalidateWindow_thenReadersGetStaleSnapshotWithoutWaitingAndUpstreamIsAskedOnce()
+            throws Exception {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleWhileRevalidate", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "errorBackoff", Duration.ofMinutes(1));
+        EmployeeSnapshot first = employeeSnapshotCache.getOrLoad(loader);
+        AtomicInteger failingLoads = new AtomicInteger();
+        CountDownLatch upstreamAnswers = new CountDownLatch(1);
+        Supplier<List<Employee>> failing = () -> {
+            failingLoads.incrementAndGet();
+            throw new InternalServerError(503);
+        };
+        Supplier<List<Employee>> hanging = () -> {
+            failingLoads.incrementAndGet();
+            awaitQuietly(upstreamAnswers);
+            return List.of(luke());
+        };
+        int readers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(readers);
+        try {
+            assertThat(employeeSnapshotCache.getOrLoad(failing)).isSameAs(first);
+            assertThat(lastFailure()).isNotNull();
+
+            assertThat(readConcurrently(pool, readers, hanging)).allSatisfy(read -> assertThat(read)
+                    .isSameAs(first));
+            assertThat(employeeSnapshotCache
+                            .getOrLoadAsync(() -> Mono.fromSupplier(hanging))
+                            .block(Duration.ofSeconds(1)))
+                    .isSameAs(first);
+            assertThat(failingLoads).hasValue(1);
+        } finally {
+            upstreamAnswers.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void whenReloadFailsBeyondStaleIfErrorWindow_thenErrorIsPropagated() {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleWhileRevalidate", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleIfError", Duration.ZERO);
+        employeeSnapshotCache.getOrLoad(loader);
+
+        assertThatThrownBy(() -> employeeSnapshotCache.getOrLoad(() -> {
+                    throw new TooManyRequestException();
+                }))
+                .isInstanceOf(TooManyRequestException.class);
+    }
+
+    @Test
+    void whenServedStaleOnError_thenRequestCacheStatusSaysSo() {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleWhileRevalidate", Duration.ZERO);
+        EmployeeSnapshot first = employeeSnapshotCache.getOrLoad(loader);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            employeeSnapshotCache.getOrLoad(() -> {
+                throw new TooManyRequestException();
+            });
+            HttpHeaders headers = new HttpHeaders();
+            CacheStatus.ofCurrentRequest(false)
+                    .writeTo(headers, first.getLoadedAt().plusSeconds(42));
+
+            assertThat(headers.getFirst(HttpHeaders.AGE)).isEqualTo("42");
+            assertThat(headers.getFirst(CacheStatus.HEADER))
+                    .isEqualTo("employee-api; hit; ttl=-42; detail=stale-if-error");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void whenEmployeeLookedUpStaleOnError_thenServedWithinStaleIfErrorWindowOnly() {
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        EmployeeSnapshot first = employeeSnapshotCache.getOrLoad(loader);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            assertThat(employeeSnapshotCache.getIfStaleOnError(arleen().getId()))
+                    .contains(arleen());
+            assertThat(employeeSnapshotCache.getIfStaleOnError("missing")).isEmpty();
+            HttpHeaders headers = new HttpHeaders();
+            CacheStatus.ofCurrentRequest(false)
+                    .writeTo(headers, first.getLoadedAt().plusSeconds(3));
+
+            assertThat(headers.getFirst(HttpHeaders.AGE)).isEqualTo("3");
+            assertThat(headers.getFirst(CacheStatus.HEADER))
+                    .isEqualTo("employee-api; hit; ttl=-3; detail=stale-if-error");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        CacheStatus reactiveStatus = new CacheStatus();
+        assertThat(employeeSnapshotCache
+                        .getIfStaleOnErrorAsync(arleen().getId())
+                        .contextWrite(context -> CacheStatus.bind(context, reactiveStatus))
+                        .block())
+                .isEqualTo(arleen());
+        HttpHeaders reactiveHeaders = new HttpHeaders();
+        reactiveStatus.writeTo(reactiveHeaders, first.getLoadedAt());
+        assertThat(reactiveHeaders.getFirst(CacheStatus.HEADER)).endsWith("; detail=stale-if-error");
+
+        ReflectionTestUtils.setField(employeeSnapshotCache, "staleIfError", Duration.ZERO);
+        assertThat(employeeSnapshotCache.getIfStaleOnError(arleen().getId())).isEmpty();
+    }
+
+    @Test
+    void whenInvalidated_thenNextReadReloads() {
+        employeeSnapshotCache.getOrLoad(loader);
+        employeeSnapshotCache.invalidate();
+
+        assertThat(employeeSnapshotCache.getIfFresh()).isEmpty();
+        assertThat(employeeSnapshotCache.getOrLoad(loader).getVersion()).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void whenLoaderReturnsNull_thenSnapshotIsEmpty() {
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getOrLoad(() -> null);
+
+        assertThat(snapshot.getEmployees()).isEmpty();
+        assertThat(snapshot.getEmployeesById()).isEmpty();
+    }
+
+    @Test
+    void whenSnapshotIsPublished_thenItCannotBeModified() {
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getOrLoad(loader);
+
+        org.junit.jupiter.api.Assertions.assertThrows(UnsupportedOperationException.class, () -> snapshot.getEmployees()
+                .clear());
+    }
+
+    @Test
+    void whenEmployeeCreated_thenNextVersionIncludesItWithoutReload() {
+        EmployeeSnapshot loaded = employeeSnapshotCache.getOrLoad(loader);
+        Employee created = luke();
+
+        employeeSnapshotCache.applyCreated(created);
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getOrLoad(loader);
+
+        assertThat(snapshot.getVersion()).isGreaterThan(loaded.getVersion());
+        assertThat(snapshot.getLoadedAt()).isEqualTo(loaded.getLoadedAt());
+        assertThat(snapshot.getEmployees()).hasSize(51).contains(created);
+        assertThat(snapshot.getEmployeesById()).containsEntry(created.getId(), created);
+        assertThat(snapshot.getNameIndex().search("skywalker")).containsExactly(created);
+        assertThat(snapshot.getSalaryIndex().size()).isEqualTo(51);
+        assertThat(loaded.getEmployees()).hasSize(50);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void whenEmployeeDeleted_thenNextVersionExcludesItWithoutReload() {
+        employeeSnapshotCache.getOrLoad(loader);
+
+        employeeSnapshotCache.applyDeleted(arleen());
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getOrLoad(loader);
+
+        assertThat(snapshot.getEmployees()).hasSize(49);
+        assertThat(snapshot.getEmployeesById()).doesNotContainKey(arleen().getId());
+        assertThat(snapshot.getNameIndex().search("Arleen")).isEmpty();
+        assertThat(snapshot.getSalaryIndex().rankOf(arleen().getEmployeeSalary()))
+                .isEqualTo(10);
+        assertThat(snapshot.getSalaryIndex().size()).isEqualTo(49);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void whenExistingEmployeeWrittenAgain_thenItIsReplaced() {
+        employeeSnapshotCache.getOrLoad(loader);
+        Employee renamed = arleen();
+        renamed.setEmployeeName("Arleen Renamed");
+
+        employeeSnapshotCache.applyCreated(renamed);
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getOrLoad(loader);
+
+        assertThat(snapshot.getEmployees()).hasSize(50);
+        assertThat(snapshot.getNameIndex().search("Arleen")).containsExactly(renamed);
+    }
+
+    @Test
+    void whenWriteLandsDuringReload_thenItIsReplayedOntoTheReloadedRoster() {
+        Employee created = luke();
+
+        EmployeeSnapshot snapshot = employeeSnapshotCache.getOrLoad(() -> {
+            employeeSnapshotCache.applyCreated(created);
+            return getAllEmployees();
+        });
+
+        assertThat(snapshot.getEmployees()).hasSize(51).contains(created);
+    }
+
+    @Test
+    void whenNoSnapshotLoaded_thenWritesAreDropped() {
+        employeeSnapshotCache.applyCreated(luke());
+
+        assertThat(employeeSnapshotCache.getIfFresh()).isEmpty();
+        assertThat(employeeSnapshotCache.getOrLoad(loader).getEmployees()).hasSize(50);
+    }
+
+    private Object lastFailure() {
+        return ReflectionTestUtils.getField(employeeSnapshotCache, "lastFailure");
+    }
+
+    /** Reads from {@code readers} threads at once, each given a second to answer. */
+    private List<EmployeeSnapshot> readConcurrently(
+            ExecutorService pool, int readers, Supplier<List<Employee>> upstream) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<EmployeeSnapshot>> reads = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            reads.add(pool.submit(() -> {
+                start.await();
+                return employeeSnapshotCache.getOrLoad(upstream);
+            }));
+        }
+        start.countDown();
+        List<EmployeeSnapshot> snapshots = new ArrayList<>();
+        for (Future<EmployeeSnapshot> read : reads) {
+            snapshots.add(read.get(1, TimeUnit.SECONDS));
+        }
+        return snapshots;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
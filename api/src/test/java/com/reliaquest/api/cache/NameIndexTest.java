@@ -0,0 +1,86 @@
+package com.reliaquest.api.cache;
+
+import static com.reliaquest.api.util.TestStaticEmployees.getAllEmployees;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+class NameIndexTest {
+
+    @Test
+    void whenSearch_thenSameResultsAsScanningTheRoster() {
+        List<Employee> roster = getAllEmployees();
+        NameIndex nameIndex = NameIndex.of(roster);
+
+        for (String query : List.of("leen", "LEEN", "a", "Mr", "son", "Thomas Volk", "", "zzz", "D'Am")) {
+            assertThat(nameIndex.search(query))
+                    .as(query)
+                    .containsExactlyElementsOf(roster.stream()
+                            .filter(employee -> StringUtils.containsIgnoreCase(employee.getEmployeeName(), query))
+                            .toList());
+        }
+    }
+
+    @Test
+    void whenEveryGramMatchesButNotContiguously_thenCandidateIsRejected() {
+        NameIndex nameIndex = NameIndex.of(List.of(employee("1", "abcXbcd")));
+
+        assertThat(nameIndex.search("abcd")).isEmpty();
+        assertThat(nameIndex.search("bcd")).hasSize(1);
+    }
+
+    @Test
+    void whenEmployeeAdded_thenFoundWithoutRebuild() {
+        NameIndex nameIndex = NameIndex.of(List.of(employee("1", "Arleen Effertz")));
+
+        NameIndex next = nameIndex.withAdded(employee("2", "Shirleen Pouros"));
+
+        assertThat(next.search("leen")).extracting(Employee::getId).containsExactly("1", "2");
+        assertThat(nameIndex.search("leen")).extracting(Employee::getId).containsExactly("1");
+    }
+
+    @Test
+    void whenEmployeeRemoved_thenNoLongerFound() {
+        NameIndex nameIndex = NameIndex.of(List.of(employee("1", "Arleen Effertz"), employee("2", "Shirleen Pouros")));
+
+        NameIndex next = nameIndex.withRemoved(employee("1", "Arleen Effertz"));
+
+        assertThat(next.search("leen")).extracting(Employee::getId).containsExactly("2");
+        assertThat(next.search("e")).extracting(Employee::getId).containsExactly("2");
+        assertThat(nameIndex.withRemoved(employee("3", "Nobody"))).isSameAs(nameIndex);
+    }
+
+    @Test
+    void whenHalfThePositionsAreRemoved_thenIndexIsRebuiltWithoutHoles() {
+        NameIndex nameIndex = NameIndex.of(List.of(
+                employee("1", "Arleen Effertz"),
+                employee("2", "Shirleen Pouros"),
+                employee("3", "Luke Skywalker"),
+                employee("4", "Leia Organa")));
+
+        NameIndex oneHole = nameIndex.withRemoved(employee("1", "Arleen Effertz"));
+        NameIndex rebuilt = oneHole.withRemoved(employee("3", "Luke Skywalker"));
+
+        assertThat(oneHole.positions()).isEqualTo(4);
+        assertThat(rebuilt.positions()).isEqualTo(2);
+        assertThat(rebuilt.search("e")).extracting(Employee::getId).containsExactly("2", "4");
+        assertThat(rebuilt.search("leen")).extracting(Employee::getId).containsExactly("2");
+        assertThat(rebuilt.withAdded(employee("5", "Kathleen Kane")).search("leen"))
+                .extracting(Employee::getId)
+                .containsExactly("2", "5");
+    }
+
+    @Test
+    void whenNameIsNull_thenIgnoredBySearch() {
+        NameIndex nameIndex = NameIndex.of(List.of(employee("1", null), employee("2", "Ann")));
+
+        assertThat(nameIndex.search("an")).extracting(Employee::getId).containsExactly("2");
+    }
+
+    private static Employee employee(String id, String name) {
+        return Employee.builder().id(id).employeeName(name).build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.api.cache;
+
+import static com.reliaquest.api.util.TestStaticEmployees.getAllEmployees;
+import static com.reliaquest.api.util.TestStaticEmployees.topTenEmployeeNames;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    @Test
+    void whenTopN_thenHighestPaidFirst() {
+        SalaryIndex salaryIndex = SalaryIndex.of(getAllEmployees());
+
+        assertThat(salaryIndex.size()).isEqualTo(50);
+        assertThat(salaryIndex.topN(10))
+                .extracting(Employee::getEmployeeName)
+                .containsExactlyElementsOf(topTenEmployeeNames());
+        assertThat(salaryIndex.topN(500)).hasSize(50);
+    }
+
+    @Test
+    void whenSalariesTie_thenTiedEmployeesShareRank() {
+        SalaryIndex salaryIndex =
+                SalaryIndex.of(List.of(employee("a", 300), employee("b", 200), employee("c", 200), employee("d", 100)));
+
+        assertThat(salaryIndex.rankOf(300)).isEqualTo(1);
+        assertThat(salaryIndex.rankOf(200)).isEqualTo(2);
+        assertThat(salaryIndex.rankOf(100)).isEqualTo(4);
+        assertThat(salaryIndex.countEarningMoreThan(200)).isEqualTo(1);
+        assertThat(salaryIndex.countEarningMoreThan(150)).isEqualTo(3);
+        assertThat(salaryIndex.countEarningMoreThan(1000)).isZero();
+        assertThat(salaryIndex.countEarningMoreThan(0)).isEqualTo(4);
+    }
+
+    @Test
+    void whenSalariesTie_thenTopNKeepsEveryTiedEmployeeInIdOrder() {
+        SalaryIndex salaryIndex = SalaryIndex.of(List.of(employee("b", 100), employee("a", 100), employee("c", 50)));
+
+        assertThat(salaryIndex.topN(3)).extracting(Employee::getId).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void whenPercentile_thenNearestRankSalary() {
+        SalaryIndex salaryIndex = SalaryIndex.of(
+                List.of(employee("a", 10), employee("b", 20), employee("c", 30), employee("d", 40), employee("e", 50)));
+
+        assertThat(salaryIndex.percentile(0)).isEqualTo(10);
+        assertThat(salaryIndex.percentile(50)).isEqualTo(30);
+        assertThat(salaryIndex.percentile(90)).isEqualTo(50);
+        assertThat(salaryIndex.percentile(100)).isEqualTo(50);
+        assertThat(SalaryIndex.of(List.of()).percentile(50)).isNull();
+    }
+
+    @Test
+    void whenAddedAndRemoved_thenIndexMatchesRebuild() {
+        Employee created = employee("new", 450000);
+        SalaryIndex salaryIndex = SalaryIndex.of(getAllEmployees()).withAdded(created);
+
+        assertThat(salaryIndex.size()).isEqualTo(51);
+        assertThat(salaryIndex.rankOf(450000)).isEqualTo(6);
+        assertThat(salaryIndex.topN(6)).contains(created);
+
+        SalaryIndex removed = salaryIndex.withRemoved(created);
+        assertThat(removed.topN(50))
+                .containsExactlyElementsOf(SalaryIndex.of(getAllEmployees()).topN(50));
+    }
+
+    @Test
+    void whenEmployeeHasNoSalary_thenNotIndexed() {
+        SalaryIndex salaryIndex = SalaryIndex.of(
+                List.of(employee("a", 100), Employee.builder().id("b").build()));
+
+        assertThat(salaryIndex.size()).isEqualTo(1);
+        assertThat(salaryIndex.withAdded(Employee.builder().id("c").build())).isSameAs(salaryIndex);
+    }
+
+    private static Employee employee(String id, int salary) {
+        return Employee.builder().id(id).employeeSalary(salary).build();
+    }
+}
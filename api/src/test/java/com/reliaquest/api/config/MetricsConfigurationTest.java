@@ -0,0 +1,25 @@
+package com.reliaquest.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@AutoConfigureObservability
+class MetricsConfigurationTest {
+
+    @Autowired
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Test
+    void whenScraped_thenStructureGaugesAreExposed() {
+        String scrape = prometheusMeterRegistry.scrape();
+
+        assertThat(scrape).contains("employee_salary_index_size{application=\"employee-api\"");
+        assertThat(scrape).contains("employee_roster_size{application=\"employee-api\"");
+    }
+}
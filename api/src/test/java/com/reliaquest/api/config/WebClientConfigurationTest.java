@@ -0,0 +1,81 @@
+package com.reliaquest.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import com.reliaquest.api.util.Constants;
+import com.reliaquest.api.util.TestStaticEmployees;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.MediaType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@SpringBootTest(properties = "custom.api.http-client.pool.max-connections=7")
+class WebClientConfigurationTest {
+
+    private static ClientAndServer mockServer;
+
+    @Autowired
+    private WebClient employeeApiWebClient;
+
+    @Autowired
+    private ConnectionProvider employeeApiConnectionProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void upstreamEndpoint(DynamicPropertyRegistry registry) {
+        mockServer = ClientAndServer.startClientAndServer();
+        registry.add("custom.api.server-endpoint", () -> "http://localhost:" + mockServer.getLocalPort());
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        mockServer.stop();
+    }
+
+    @Test
+    void whenConfigured_thenPoolUsesConfiguredLimits() {
+        assertThat(employeeApiConnectionProvider.name()).isEqualTo("employee-api");
+        assertThat(employeeApiConnectionProvider.maxConnections()).isEqualTo(7);
+    }
+
+    @Test
+    void whenUpstreamIsCalled_thenConnectionPoolMetricsArePublished() {
+        mockServer
+                .when(request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(TestStaticEmployees.getAllEmployeesResponseFromApi()));
+
+        employeeApiWebClient
+                .get()
+                .uri(Constants.API_PATH_EMPLOYEE.BASE)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+
+        assertThat(meterRegistry
+                        .find("reactor.netty.connection.provider.total.connections")
+                        .tag("name", "employee-api")
+                        .gauge())
+                .isNotNull();
+        assertThat(meterRegistry
+                        .find("reactor.netty.connection.provider.pending.connections.time")
+                        .tag("name", "employee-api")
+                        .timer())
+                .isNotNull();
+    }
+}
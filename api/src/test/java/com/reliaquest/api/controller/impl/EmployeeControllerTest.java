@@ -7,13 +7,18 @@ import static com.reliaquest.api.util.TestStaticEmployees.lukeInput;
 import static com.reliaquest.api.util.TestStaticEmployees.shirleen;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,12 +28,16 @@ import com.reliaquest.api.exception.BadRequestException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.InternalServerError;
 import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.exception.handler.ApiExceptionMetrics;
 import com.reliaquest.api.exception.handler.CustomExceptionHandler;
 import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.service.provider.IEmployeeService;
+import com.reliaquest.api.timing.ServerTiming;
+import com.reliaquest.api.util.LogSampler;
 import com.reliaquest.api.util.TestConstants;
 import com.reliaquest.api.util.TestStaticEmployees;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -38,14 +47,17 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(controllers = IEmployeeController.class)
+@Import({SimpleMeterRegistry.class, LogSampler.class, ApiExceptionMetrics.class})
 class EmployeeControllerTest {
 
     @Autowired
@@ -76,6 +88,44 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$", hasSize(50)));
     }
 
+    @Test
+    void whenGetAllEmployeesAsNdjson_thenOneEmployeePerLine() throws Exception {
+        List<Employee> allEmployees = getAllEmployees();
+        given(employeeService.getAllEmployees()).willReturn(allEmployees);
+
+        MvcResult result = mockMvc.perform(get("/employee").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        StringBuilder expected = new StringBuilder();
+        for (Employee employee : allEmployees) {
+            expected.append(objectMapper.writeValueAsString(employee)).append('\n');
+        }
+        assertEquals(expected.toString(), body);
+        List<String> lines = body.lines().toList();
+        assertEquals(allEmployees.size(), lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertFalse(Character.isWhitespace(lines.get(i).charAt(0)), "line " + i + " starts with whitespace");
+            assertEquals(allEmployees.get(i), objectMapper.readValue(lines.get(i), Employee.class));
+        }
+    }
+
+    @Test
+    void whenGetAllEmployeesWithWildcardAccept_thenReturnJsonArray() throws Exception {
+        given(employeeService.getAllEmployees()).willReturn(getAllEmployees());
+
+        mockMvc.perform(get("/employee").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(50)));
+    }
+
     @Test
     void whenGetAllEmployees_throwsTooManyRequestException() throws Exception {
         given(employeeService.getAllEmployees()).willThrow(new TooManyRequestException());
@@ -164,6 +214,34 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].employee_name", is(arleen().getEmployeeName())));
     }
 
+    @Test
+    void whenGetEmployeeByNameSearch_WithDebugTimingHeader_thenReturnServerTimingBreakdown() throws Exception {
+
+        String searchString = "leen";
+        given(employeeService.getEmployeesByNameSearch(searchString))
+                .willAnswer(invocation -> ServerTiming.time("search", () -> List.of(arleen(), shirleen())));
+        mockMvc.perform(get("/employee/search/{searchString}", searchString)
+                        .header("X-Debug-Timing", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string(
+                                ServerTiming.HEADER,
+                                matchesPattern("search;dur=[\\d.]+, handler;dur=[\\d.]+, serialize;dur=[\\d.]+,"
+                                        + " total;dur=[\\d.]+")));
+    }
+
+    @Test
+    void whenGetEmployeeByNameSearch_WithoutDebugTimingHeader_thenNoServerTimingHeader() throws Exception {
+
+        String searchString = "leen";
+        given(employeeService.getEmployeesByNameSearch(searchString)).willReturn(List.of(arleen(), shirleen()));
+        mockMvc.perform(get("/employee/search/{searchString}", searchString).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ServerTiming.HEADER));
+    }
+
     @Test
     void whenGetEmployeeByNameSearch_IfNotPresent_thenReturnEmptyEmployeeList() throws Exception {
 
@@ -326,4 +404,60 @@ class EmployeeControllerTest {
                 .andExpect(status().is(500))
                 .andExpect(jsonPath("$.status", is(500)));
     }
+
+    @Test
+    void whenGetTopEarningEmployees_thenReturnRequestedNumberOfEmployees() throws Exception {
+        given(employeeService.getTopEarningEmployees(2)).willReturn(List.of(arleen(), shirleen()));
+
+        mockMvc.perform(get("/employee/salary/top/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$.[0].employee_name", is(arleen().getEmployeeName())));
+    }
+
+    @Test
+    void whenGetTopEarningEmployees_IfNIsInvalid_thenReturnBadRequest() throws Exception {
+        given(employeeService.getTopEarningEmployees(0)).willThrow(new BadRequestException("n must be at least 1"));
+
+        mockMvc.perform(get("/employee/salary/top/0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)));
+    }
+
+    @Test
+    void whenGetSalaryRankOfEmployee_thenReturnRank() throws Exception {
+        given(employeeService.getSalaryRankOfEmployee(arleen().getId())).willReturn(3);
+
+        mockMvc.perform(get("/employee/salary/rank/" + arleen().getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", is(3)));
+    }
+
+    @Test
+    void whenGetSalaryRankOfEmployee_IfEmployeeNotFound_thenReturnNotFound() throws Exception {
+        String id = UUID.randomUUID().toString();
+        given(employeeService.getSalaryRankOfEmployee(id)).willThrow(new EmployeeNotFoundException(id));
+
+        mockMvc.perform(get("/employee/salary/rank/" + id))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)));
+    }
+
+    @Test
+    void whenGetCountOfEmployeesEarningMoreThan_thenReturnCount() throws Exception {
+        given(employeeService.getCountOfEmployeesEarningMoreThan(400000)).willReturn(9);
+
+        mockMvc.perform(get("/employee/salary/countAbove/400000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", is(9)));
+    }
+
+    @Test
+    void whenGetSalaryPercentile_thenReturnSalary() throws Exception {
+        given(employeeService.getSalaryPercentile(90.0)).willReturn(394222);
+
+        mockMvc.perform(get("/employee/salary/percentile/90"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", is(394222)));
+    }
 }
@@ -0,0 +1,293 @@
+package com.reliaquest.api.controller.impl;
+
+import static com.reliaquest.api.util.TestStaticEmployees.getAllEmployees;
+import static com.reliaquest.api.util.TestStaticEmployees.luke;
+import static com.reliaquest.api.util.TestStaticEmployees.lukeInput;
+import static com.reliaquest.api.util.TestStaticEmployees.topTenEmployeeNames;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.reliaquest.api.cache.CacheStatus;
+import com.reliaquest.api.cache.EmployeeSnapshot;
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InternalServerError;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.provider.IReactiveEmployeeService;
+import com.reliaquest.api.util.Constants;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveEmployeeHandlerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private IReactiveEmployeeService employeeService;
+
+    @Test
+    void whenGetAllEmployees_thenReturnJsonArray() {
+        given(employeeService.getAllEmployees()).willReturn(Flux.fromIterable(getAllEmployees()));
+
+        webTestClient
+                .get()
+                .uri("/employee")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBodyList(Employee.class)
+                .hasSize(50);
+    }
+
+    @Test
+    void whenGetAllEmployeesAsNdjson_thenOneEmployeePerLine() {
+        given(employeeService.getAllEmployees()).willReturn(Flux.fromIterable(getAllEmployees()));
+
+        webTestClient
+                .get()
+                .uri("/employee")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(Employee.class)
+                .getResponseBody()
+                .collectList()
+                .doOnNext(employees -> assertThat(employees).containsExactlyElementsOf(getAllEmployees()))
+                .block();
+    }
+
+    @Test
+    void whenGetAllEmployees_IfUpstreamRateLimits_thenReturnTooManyRequestsError() {
+        given(employeeService.getAllEmployees()).willReturn(Flux.error(new TooManyRequestException()));
+
+        webTestClient
+                .get()
+                .uri("/employee")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(429)
+                .expectBody()
+                .jsonPath("$.status")
+                .isEqualTo(429)
+                .jsonPath("$.message")
+                .isEqualTo(Constants.MESSAGES.TOO_MANY_REQUESTS_MESSAGE);
+    }
+
+    @Test
+    void whenGetAllEmployeesAsNdjson_IfUpstreamFails_thenReturnUpstreamErrorBeforeStreaming() {
+        given(employeeService.getAllEmployees()).willReturn(Flux.error(new InternalServerError(503)));
+
+        webTestClient
+                .get()
+                .uri("/employee")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus()
+                .isEqualTo(503)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo(Constants.MESSAGES.INTERNAL_SERVER_ERROR_OCCURRED_MESSAGE);
+    }
+
+    @Test
+    void whenGetEmployeesByNameSearch_IfUpstreamFails_thenReturnUpstreamError() {
+        given(employeeService.getEmployeesByNameSearch("luke")).willReturn(Flux.error(new InternalServerError(502)));
+
+        webTestClient
+                .get()
+                .uri("/employee/search/luke")
+                .exchange()
+                .expectStatus()
+                .isEqualTo(502)
+                .expectBody()
+                .jsonPath("$.status")
+                .isEqualTo(502);
+    }
+
+    @Test
+    void whenGetTopEarningEmployees_IfNIsBelowOne_thenReturnBadRequest() {
+        given(employeeService.getTopEarningEmployees(0))
+                .willReturn(Flux.error(new BadRequestException(Constants.MESSAGES.INVALID_TOP_N_MESSAGE)));
+
+        webTestClient
+                .get()
+                .uri("/employee/salary/top/0")
+                .exchange()
+                .expectStatus()
+                .isBadRequest()
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo(Constants.MESSAGES.INVALID_TOP_N_MESSAGE);
+    }
+
+    @Test
+    void whenGetEmployeesByNameSearch_thenReturnMatchingEmployees() {
+        given(employeeService.getEmployeesByNameSearch("luke")).willReturn(Flux.just(luke()));
+
+        webTestClient
+                .get()
+                .uri("/employee/search/luke")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$[0].employee_name")
+                .isEqualTo("Luke Skywalker");
+    }
+
+    @Test
+    void whenAnsweredFromRosterSnapshot_thenAgeAndCacheStatusHeadersAreSet() {
+        EmployeeSnapshotCache employeeSnapshotCache = new EmployeeSnapshotCache();
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ofMinutes(1));
+        given(employeeService.getEmployeesByNameSearch("luke"))
+                .willReturn(employeeSnapshotCache
+                        .getOrLoadAsync(() -> Mono.just(List.of(luke())))
+                        .flatMapIterable(EmployeeSnapshot::getEmployees));
+
+        webTestClient
+                .get()
+                .uri("/employee/search/luke")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectHeader()
+                .valueEquals(HttpHeaders.AGE, "0")
+                .expectHeader()
+                .valueMatches(CacheStatus.HEADER, "employee-api; hit; ttl=(59|60)");
+    }
+
+    @Test
+    void whenGetEmployeeById_thenReturnEmployee() {
+        Employee luke = luke();
+        given(employeeService.getEmployeeById(luke.getId())).willReturn(Mono.just(luke));
+
+        webTestClient
+                .get()
+                .uri("/employee/{id}", luke.getId())
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.id")
+                .isEqualTo(luke.getId());
+    }
+
+    @Test
+    void whenGetEmployeeById_IfNotFound_thenReturnNotFoundError() {
+        given(employeeService.getEmployeeById("missing"))
+                .willReturn(Mono.error(new EmployeeNotFoundException("missing")));
+
+        webTestClient
+                .get()
+                .uri("/employee/missing")
+                .exchange()
+                .expectStatus()
+                .isNotFound()
+                .expectBody()
+                .jsonPath("$.status")
+                .isEqualTo(404)
+                .jsonPath("$.message")
+                .isEqualTo(Constants.MESSAGES.EMPLOYEE_NOT_FOUND_WITH_ID_MESSAGE + "missing");
+    }
+
+    @Test
+    void whenGetHighestSalary_thenReturnSalary() {
+        given(employeeService.getHighestSalaryOfEmployees()).willReturn(Mono.just(300000));
+
+        webTestClient
+                .get()
+                .uri("/employee/highestSalary")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(Integer.class)
+                .isEqualTo(300000);
+    }
+
+    @Test
+    void whenGetTopTenHighestEarningEmployeeNames_thenReturnNames() {
+        given(employeeService.getTopTenHighestEarningEmployeeNames())
+                .willReturn(Flux.fromIterable(topTenEmployeeNames()));
+
+        webTestClient
+                .get()
+                .uri("/employee/topTenHighestEarningEmployeeNames")
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(new ParameterizedTypeReference<List<String>>() {})
+                .isEqualTo(topTenEmployeeNames());
+    }
+
+    @Test
+    void whenCreateEmployee_thenReturnCreatedEmployee() {
+        given(employeeService.createEmployee(any())).willReturn(Mono.just(luke()));
+
+        webTestClient
+                .post()
+                .uri("/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(lukeInput())
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody()
+                .jsonPath("$.employee_name")
+                .isEqualTo("Luke Skywalker");
+    }
+
+    @Test
+    void whenCreateEmployee_IfTooManyRequests_thenReturnTooManyRequestsError() {
+        given(employeeService.createEmployee(any())).willReturn(Mono.error(new TooManyRequestException()));
+
+        webTestClient
+                .post()
+                .uri("/employee")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(lukeInput())
+                .exchange()
+                .expectStatus()
+                .isEqualTo(429)
+                .expectBody()
+                .jsonPath("$.message")
+                .isEqualTo(Constants.MESSAGES.TOO_MANY_REQUESTS_MESSAGE);
+    }
+
+    @Test
+    void whenDeleteEmployeeById_thenReturnDeletedEmployeeName() {
+        Employee luke = luke();
+        given(employeeService.deleteEmployee(luke.getId())).willReturn(Mono.just(luke.getEmployeeName()));
+
+        webTestClient
+                .delete()
+                .uri("/employee/{id}", luke.getId())
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .expectBody(String.class)
+                .isEqualTo("Luke Skywalker");
+    }
+}
@@ -0,0 +1,35 @@
+package com.reliaquest.api.exception.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InternalServerError;
+import com.reliaquest.api.util.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class ApiExceptionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ApiExceptionMetrics apiExceptionMetrics = new ApiExceptionMetrics(meterRegistry);
+
+    @Test
+    void whenExceptionsRecorded_thenCountedPerExceptionTypeAndStatus() {
+        apiExceptionMetrics.record(new EmployeeNotFoundException("missing"));
+        apiExceptionMetrics.record(new EmployeeNotFoundException("gone"));
+        apiExceptionMetrics.record(new InternalServerError(503));
+
+        assertThat(count("EmployeeNotFoundException", "404")).isEqualTo(2);
+        assertThat(count("InternalServerError", "503")).isEqualTo(1);
+    }
+
+    private double count(String exception, String status) {
+        return meterRegistry
+                .get(Constants.METRICS.API_EXCEPTIONS)
+                .tag("exception", exception)
+                .tag("status", status)
+                .counter()
+                .count();
+    }
+}
@@ -7,14 +7,30 @@ import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.InternalServerError;
 import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.model.CreateEmployeeInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.util.Constants;
 import com.reliaquest.api.util.TestStaticEmployees;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,7 +39,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.runner.RunWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.MatchType;
+import org.mockserver.matchers.Times;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.JsonBody;
 import org.mockserver.model.MediaType;
+import org.mockserver.verify.VerificationTimes;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -40,6 +61,8 @@ class EmployeeClientTest {
 
     private EmployeeClient employeeClient;
 
+    private SimpleMeterRegistry meterRegistry;
+
     public ExchangeFilterFunction errorHandler() {
         return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
             if (clientResponse.statusCode().is5xxServerError()) {
@@ -56,12 +79,26 @@ class EmployeeClientTest {
     public void setupMockServer() {
         mockServer = ClientAndServer.startClientAndServer(8112);
         employeeClient = new EmployeeClient();
-        ReflectionTestUtils.setField(
-                employeeClient,
-                "webClientBuilder",
+        meterRegistry = new SimpleMeterRegistry();
+        ReactiveEmployeeClient reactiveEmployeeClient = new ReactiveEmployeeClient(
                 WebClient.builder()
                         .filter(TestStaticEmployees.errorHandler())
-                        .baseUrl("http://localhost:" + mockServer.getLocalPort()));
+                        .baseUrl("http://localhost:" + mockServer.getLocalPort())
+                        .build(),
+                new UpstreamAdmissionScheduler(
+                        true, 5, Duration.ofSeconds(30), Duration.ofSeconds(90), 1, 100, Duration.ofSeconds(5)),
+                new UpstreamResiliencePolicy(
+                        2,
+                        Duration.ofMillis(10),
+                        Duration.ofMillis(50),
+                        0.5,
+                        Duration.ofSeconds(5),
+                        false,
+                        Duration.ofMillis(50),
+                        Duration.ofSeconds(1)),
+                new EmployeeListStreamDecoder(new ObjectMapper()),
+                new UpstreamCallMetrics(meterRegistry));
+        ReflectionTestUtils.setField(employeeClient, "reactiveEmployeeClient", reactiveEmployeeClient);
     }
 
     @Test
@@ -109,6 +146,49 @@ class EmployeeClientTest {
                 .withBody(TestStaticEmployees.createEmployeeApiRequest(lukeInput())));
     }
 
+    @Test
+    void whenCreateEmployeeApi_IfGivesInternalServerErrorResponse_thenRequestIsNotRetried()
+            throws JsonProcessingException {
+        mockServer
+                .when(request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE))
+                .respond(response().withStatusCode(HttpStatus.INTERNAL_SERVER_ERROR.value()));
+
+        Assertions.assertThrows(InternalServerError.class, () -> employeeClient.createEmployee(lukeInput()));
+
+        mockServer.verify(
+                request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE),
+                VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void whenUpstreamCallsComplete_thenTheyAreTimedByOperationAndOutcome() throws JsonProcessingException {
+        mockServer
+                .when(request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(TestStaticEmployees.createEmployeeResponseFromApi()));
+        employeeClient.createEmployee(lukeInput());
+        mockServer.reset();
+        mockServer
+                .when(request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE))
+                .respond(response().withStatusCode(HttpStatus.TOO_MANY_REQUESTS.value()));
+        Assertions.assertThrows(TooManyRequestException.class, () -> employeeClient.createEmployee(lukeInput()));
+
+        assertThat(meterRegistry
+                        .get(Constants.METRICS.UPSTREAM_REQUESTS)
+                        .tags("operation", "createEmployee", "outcome", "success")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get(Constants.METRICS.UPSTREAM_REQUESTS)
+                        .tags("operation", "createEmployee", "outcome", "too_many_requests")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
     @Test
     void whenCreateEmployeeApi_IfGivesTooManyRequestErrorResponse_thenReturnTooManyRequestErrorResponse()
             throws JsonProcessingException {
@@ -156,6 +236,58 @@ class EmployeeClientTest {
         mockServer.verify(request().withMethod(HttpMethod.DELETE.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE));
     }
 
+    @Test
+    void whenWriteBatchingEnabled_thenConcurrentCreatesAndDeletesShareOneUpstreamCallEach() throws Exception {
+        enableWriteBatching();
+        Employee created = TestStaticEmployees.luke();
+        Map<String, Object> createBody = new HashMap<>();
+        createBody.put("data", List.of(created, created, created));
+        createBody.put("status", "Successfully processed request.");
+        mockServer
+                .when(request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BATCH))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(new ObjectMapper().writeValueAsString(createBody)));
+        mockServer
+                .when(request().withMethod(HttpMethod.DELETE.name()).withPath(Constants.API_PATH_EMPLOYEE.BATCH))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody("{\"data\":[true,true,true],\"status\":\"Successfully processed request.\"}"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<CompletableFuture<Employee>> creates = IntStream.range(0, 3)
+                    .mapToObj(ignored ->
+                            CompletableFuture.supplyAsync(() -> employeeClient.createEmployee(lukeInput()), executor))
+                    .toList();
+            for (CompletableFuture<Employee> create : creates) {
+                assertThat(create.get(5, TimeUnit.SECONDS).getEmployeeName()).isEqualTo("Luke Skywalker");
+            }
+            List<CompletableFuture<String>> deletes = IntStream.range(0, 3)
+                    .mapToObj(ignored -> CompletableFuture.supplyAsync(
+                            () -> employeeClient.deleteEmployee(lukeDeleteInput()), executor))
+                    .toList();
+            for (CompletableFuture<String> delete : deletes) {
+                assertThat(delete.get(5, TimeUnit.SECONDS)).isEqualTo("Successfully processed request.");
+            }
+        } finally {
+            executor.shutdownNow();
+            ReflectionTestUtils.invokeMethod(employeeClient, "stopWriteBatching");
+        }
+
+        mockServer.verify(
+                request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BATCH),
+                VerificationTimes.exactly(1));
+        mockServer.verify(
+                request().withMethod(HttpMethod.DELETE.name()).withPath(Constants.API_PATH_EMPLOYEE.BATCH),
+                VerificationTimes.exactly(1));
+        mockServer.verify(
+                request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE),
+                VerificationTimes.exactly(0));
+    }
+
     @Test
     void whenGetAllEmployeesApi_IfGivesSuccess_thenReturnListOfEmployees() {
         String responseBody = TestStaticEmployees.getAllEmployeesResponseFromApi();
@@ -180,6 +312,95 @@ class EmployeeClientTest {
         mockServer.verify(request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE));
     }
 
+    @Test
+    void whenGetEmployeePages_thenFollowCursorUntilLastPage() {
+        List<Employee> roster = TestStaticEmployees.getAllEmployees();
+        mockPage(Map.of("limit", "20", "partition", "0", "partitions", "1"), roster.subList(0, 20), "c1");
+        mockPage(Map.of("limit", "20", "cursor", "c1"), roster.subList(20, 40), "c2");
+        mockPage(Map.of("limit", "20", "cursor", "c2"), roster.subList(40, 50), null);
+
+        List<List<Employee>> pages = new ArrayList<>();
+        employeeClient.getEmployeePages(20, 1).forEachRemaining(pages::add);
+
+        assertThat(pages).extracting(List::size).containsExactly(20, 20, 10);
+        assertThat(pages.stream().flatMap(List::stream)).containsExactlyElementsOf(roster);
+    }
+
+    @Test
+    void whenGetEmployeePagesInParallel_thenEveryPartitionIsPaged() {
+        List<Employee> roster = TestStaticEmployees.getAllEmployees();
+        mockPage(Map.of("limit", "20", "partition", "0", "partitions", "2"), roster.subList(0, 20), "p0");
+        mockPage(Map.of("limit", "20", "cursor", "p0"), roster.subList(20, 25), null);
+        mockPage(Map.of("limit", "20", "partition", "1", "partitions", "2"), roster.subList(25, 45), "p1");
+        mockPage(Map.of("limit", "20", "cursor", "p1"), roster.subList(45, 50), null);
+
+        List<Employee> employees = new ArrayList<>();
+        employeeClient.getEmployeePages(20, 2).forEachRemaining(employees::addAll);
+
+        assertThat(employees).containsExactlyInAnyOrderElementsOf(roster);
+    }
+
+    @Test
+    void whenGetAllEmployeesApi_IfCalledConcurrently_thenSingleUpstreamRequestIsShared() throws Exception {
+        mockServer
+                .when(request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(TestStaticEmployees.getAllEmployeesResponseFromApi())
+                        .withDelay(TimeUnit.MILLISECONDS, 500));
+
+        int callers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<List<Employee>>> results = IntStream.range(0, callers)
+                    .mapToObj(ignored -> CompletableFuture.supplyAsync(
+                            () -> {
+                                try {
+                                    start.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                return employeeClient.getAllEmployees();
+                            },
+                            executor))
+                    .toList();
+            start.countDown();
+
+            for (CompletableFuture<List<Employee>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).hasSize(50);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        mockServer.verify(
+                request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE),
+                VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void whenGetAllEmployeesApi_IfFirstAttemptFails_thenRetryReturnsListOfEmployees() {
+        mockServer
+                .when(
+                        request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE),
+                        Times.once())
+                .respond(response().withStatusCode(HttpStatus.SERVICE_UNAVAILABLE.value()));
+        mockServer
+                .when(request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(TestStaticEmployees.getAllEmployeesResponseFromApi()));
+
+        assertThat(employeeClient.getAllEmployees()).hasSize(50);
+
+        mockServer.verify(
+                request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE),
+                VerificationTimes.exactly(2));
+    }
+
     @Test
     void whenGetAllEmployeesApi_IfGivesErrorResponse_thenReturnErrorResponse() {
         mockServer
@@ -244,6 +465,126 @@ class EmployeeClientTest {
                 () -> employeeClient.getEmployeeById("cfb40208-a9ce-4137-8948-0b42f73c041a"));
     }
 
+    @Test
+    void whenGetEmployeeByIdApi_IfGivesNotFoundResponse_thenThrowsEmployeeNotFoundWithoutRetry() {
+        mockServer
+                .when(request()
+                        .withMethod(HttpMethod.GET.name())
+                        .withPath("/api/v1/employee/cfb40208-a9ce-4137-8948-0b42f73c041a"))
+                .respond(response().withStatusCode(HttpStatus.NOT_FOUND.value()));
+
+        Assertions.assertThrows(
+                EmployeeNotFoundException.class,
+                () -> employeeClient.getEmployeeById("cfb40208-a9ce-4137-8948-0b42f73c041a"));
+
+        mockServer.verify(
+                request()
+                        .withMethod(HttpMethod.GET.name())
+                        .withPath("/api/v1/employee/cfb40208-a9ce-4137-8948-0b42f73c041a"),
+                VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void whenWriteBatchingEnabled_IfOneCreateIsInvalid_thenOnlyThatCallerFails() throws Exception {
+        enableWriteBatching();
+        Map<String, Object> createBody = new HashMap<>();
+        createBody.put("data", List.of(TestStaticEmployees.luke()));
+        createBody.put("status", "Successfully processed request.");
+        mockServer
+                .when(request().withMethod(HttpMethod.POST.name()).withPath(Constants.API_PATH_EMPLOYEE.BATCH))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody(new ObjectMapper().writeValueAsString(createBody)));
+        CreateEmployeeInput tooYoung = lukeInput();
+        tooYoung.setAge(10);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Employee> valid =
+                    CompletableFuture.supplyAsync(() -> employeeClient.createEmployee(lukeInput()), executor);
+            Assertions.assertThrows(BadRequestException.class, () -> employeeClient.createEmployee(tooYoung));
+
+            assertThat(valid.get(5, TimeUnit.SECONDS).getEmployeeName()).isEqualTo("Luke Skywalker");
+        } finally {
+            executor.shutdownNow();
+            ReflectionTestUtils.invokeMethod(employeeClient, "stopWriteBatching");
+        }
+
+        mockServer.verify(
+                request()
+                        .withMethod(HttpMethod.POST.name())
+                        .withPath(Constants.API_PATH_EMPLOYEE.BATCH)
+                        .withBody(JsonBody.json(
+                                new ObjectMapper().writeValueAsString(Map.of("employees", List.of(lukeInput()))),
+                                MatchType.STRICT)),
+                VerificationTimes.exactly(1));
+    }
+
+    @Test
+    void whenWriteBatchingEnabled_thenEachDeleteGetsItsOwnResult() throws Exception {
+        enableWriteBatching();
+        mockServer
+                .when(request().withMethod(HttpMethod.DELETE.name()).withPath(Constants.API_PATH_EMPLOYEE.BATCH))
+                .respond(response()
+                        .withStatusCode(HttpStatus.OK.value())
+                        .withContentType(MediaType.APPLICATION_JSON)
+                        .withBody("{\"data\":[true,false],\"status\":\"Successfully processed request.\"}"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<String> matched = CompletableFuture.supplyAsync(
+                    () -> employeeClient.deleteEmployee(lukeDeleteInput()), executor);
+            Thread.sleep(50);
+            CompletableFuture<String> unmatched = CompletableFuture.supplyAsync(
+                    () -> employeeClient.deleteEmployee(
+                            DeleteEmployeeInput.builder().name("Nobody").build()),
+                    executor);
+
+            assertThat(matched.get(5, TimeUnit.SECONDS)).isEqualTo("Successfully processed request.");
+            ExecutionException failure = Assertions.assertThrows(
+                    ExecutionException.class, () -> unmatched.get(5, TimeUnit.SECONDS));
+            assertThat(failure.getCause()).isInstanceOf(EmployeeNotFoundException.class);
+            Assertions.assertThrows(
+                    BadRequestException.class,
+                    () -> employeeClient.deleteEmployee(
+                            DeleteEmployeeInput.builder().name(" ").build()));
+        } finally {
+            executor.shutdownNow();
+            ReflectionTestUtils.invokeMethod(employeeClient, "stopWriteBatching");
+        }
+
+        mockServer.verify(
+                request().withMethod(HttpMethod.DELETE.name()).withPath(Constants.API_PATH_EMPLOYEE.BATCH),
+                VerificationTimes.exactly(1));
+    }
+
+    private void enableWriteBatching() {
+        ReflectionTestUtils.setField(employeeClient, "writeBatching", true);
+        ReflectionTestUtils.setField(employeeClient, "writeBatchWindow", Duration.ofMillis(300));
+        ReflectionTestUtils.invokeMethod(employeeClient, "startWriteBatching");
+    }
+
+    private void mockPage(Map<String, String> query, List<Employee> employees, String nextCursor) {
+        HttpRequest pageRequest =
+                request().withMethod(HttpMethod.GET.name()).withPath(Constants.API_PATH_EMPLOYEE.BASE);
+        query.forEach(pageRequest::withQueryStringParameter);
+        Map<String, Object> body = new HashMap<>();
+        body.put("data", employees);
+        body.put("status", "Successfully processed request.");
+        body.put("nextCursor", nextCursor);
+        try {
+            mockServer
+                    .when(pageRequest)
+                    .respond(response()
+                            .withStatusCode(HttpStatus.OK.value())
+                            .withContentType(MediaType.APPLICATION_JSON)
+                            .withBody(new ObjectMapper().writeValueAsString(body)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     @AfterEach
     public void tearDownServer() {
         mockServer.stop();
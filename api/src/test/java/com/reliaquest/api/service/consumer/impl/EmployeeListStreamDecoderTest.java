@@ -0,0 +1,108 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import static com.reliaquest.api.util.TestStaticEmployees.getAllEmployees;
+import static com.reliaquest.api.util.TestStaticEmployees.getAllEmployeesResponseFromApi;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.ApiResponseJsonParseException;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+class EmployeeListStreamDecoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeListStreamDecoder decoder = new EmployeeListStreamDecoder(objectMapper);
+
+    @Test
+    void whenBodyArrivesInSmallChunks_thenEveryEmployeeDecodedInOrder() {
+        List<Employee> employees = decoder.decode(chunks(getAllEmployeesResponseFromApi(), 7))
+                .collectList()
+                .block();
+
+        assertThat(employees).containsExactlyElementsOf(getAllEmployees());
+    }
+
+    @Test
+    void whenRosterExceedsCodecBufferLimit_thenStillDecoded() throws Exception {
+        List<Employee> roster = IntStream.range(0, 5_000)
+                .mapToObj(i -> Employee.builder()
+                        .id("id-" + i)
+                        .employeeName("Employee " + i)
+                        .employeeSalary(i)
+                        .employeeAge(30)
+                        .employeeTitle("Engineer")
+                        .employeeEmail("employee" + i + "@company.com")
+                        .build())
+                .toList();
+        String body = "{\"status\":\"ok\",\"data\":" + objectMapper.writeValueAsString(roster) + "}";
+        assertThat(body.length()).isGreaterThan(256 * 1024);
+
+        List<Employee> employees =
+                decoder.decode(chunks(body, 8192)).collectList().block();
+
+        assertThat(employees).containsExactlyElementsOf(roster);
+    }
+
+    @Test
+    void whenDataIsNullOrEmpty_thenNoEmployees() {
+        assertThat(decoder.decode(chunks("{\"data\":null,\"status\":\"ok\"}", 5))
+                        .collectList()
+                        .block())
+                .isEmpty();
+        assertThat(decoder.decode(chunks("{\"status\":\"ok\",\"data\":[]}", 5))
+                        .collectList()
+                        .block())
+                .isEmpty();
+    }
+
+    @Test
+    void whenNestedArraysOutsideData_thenIgnored() {
+        String body = "{\"meta\":{\"data\":[{\"id\":\"x\"}]},\"data\":[{\"id\":\"1\"},{\"id\":\"2\"}]}";
+
+        assertThat(decoder.decode(chunks(body, 3))
+                        .map(Employee::getId)
+                        .collectList()
+                        .block())
+                .containsExactly("1", "2");
+    }
+
+    @Test
+    void whenBodyIsMalformed_thenParseExceptionAfterDecodedEmployees() {
+        List<String> decoded = new ArrayList<>();
+        Flux<Employee> employees = decoder.decode(chunks("{\"data\":[{\"id\":\"1\"},{\"id\":}]}", 4))
+                .doOnNext(employee -> decoded.add(employee.getId()));
+
+        assertThatThrownBy(employees::blockLast).isInstanceOf(ApiResponseJsonParseException.class);
+        assertThat(decoded).containsExactly("1");
+    }
+
+    @Test
+    void whenBodyIsTruncated_thenParseException() {
+        List<String> decoded = new ArrayList<>();
+        Flux<Employee> employees = decoder.decode(chunks("{\"data\":[{\"id\":\"1\"},{\"id\":\"2\"", 4))
+                .doOnNext(employee -> decoded.add(employee.getId()));
+
+        assertThatThrownBy(employees::blockLast).isInstanceOf(ApiResponseJsonParseException.class);
+        assertThat(decoded).containsExactly("1");
+    }
+
+    private static Flux<DataBuffer> chunks(String body, int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += chunkSize) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + chunkSize))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,125 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.exception.TooManyRequestException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class UpstreamAdmissionSchedulerTest {
+
+    private static UpstreamAdmissionScheduler scheduler(int initialLimit, Duration backoff, Duration maxQueueWait) {
+        return new UpstreamAdmissionScheduler(
+                true, initialLimit, backoff, Duration.ofSeconds(90), 1, 100, maxQueueWait, Clock.systemUTC());
+    }
+
+    @Test
+    void whenBudgetIsExhausted_thenCallsAreRejectedBeforeBeingSent() {
+        UpstreamAdmissionScheduler scheduler = scheduler(3, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        AtomicInteger sent = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            scheduler
+                    .schedule(UpstreamPriority.HIGH, () -> Mono.fromSupplier(sent::incrementAndGet))
+                    .block();
+        }
+
+        assertThrows(TooManyRequestException.class, () -> scheduler
+                .schedule(UpstreamPriority.HIGH, () -> Mono.fromSupplier(sent::incrementAndGet))
+                .block());
+        assertThat(sent).hasValue(4);
+        assertThat(scheduler.getEstimatedLimit()).isEqualTo(4);
+        assertThat(scheduler.getRemainingBudget()).isZero();
+    }
+
+    @Test
+    void whenUpstreamThrottles_thenLimitIsLearnedFromAcceptedRequests() {
+        UpstreamAdmissionScheduler scheduler = scheduler(10, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        AtomicInteger sent = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            scheduler
+                    .schedule(UpstreamPriority.NORMAL, () -> Mono.fromSupplier(sent::incrementAndGet))
+                    .block();
+        }
+        assertThrows(TooManyRequestException.class, () -> scheduler
+                .schedule(UpstreamPriority.NORMAL, () -> Mono.error(new TooManyRequestException()))
+                .block());
+
+        assertThat(scheduler.getEstimatedLimit()).isEqualTo(3);
+        assertThat(scheduler.getRemainingBudget()).isZero();
+    }
+
+    @Test
+    void whenOnlyReservedBudgetIsLeft_thenOnlyHighPriorityCallsAreAdmitted() {
+        UpstreamAdmissionScheduler scheduler = scheduler(1, Duration.ofSeconds(30), Duration.ofSeconds(1));
+
+        scheduler.schedule(UpstreamPriority.NORMAL, () -> Mono.just("first")).block();
+
+        assertThrows(TooManyRequestException.class, () -> scheduler
+                .schedule(UpstreamPriority.NORMAL, () -> Mono.just("second"))
+                .block());
+        assertThat(scheduler
+                        .schedule(UpstreamPriority.HIGH, () -> Mono.just("write"))
+                        .block())
+                .isEqualTo("write");
+    }
+
+    @Test
+    void whenThrottledCallFitsInQueueWait_thenItIsRetriedAfterLockout() {
+        UpstreamAdmissionScheduler scheduler = scheduler(5, Duration.ofMillis(200), Duration.ofSeconds(3));
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = scheduler
+                .schedule(
+                        UpstreamPriority.NORMAL,
+                        () -> Mono.defer(() -> attempts.incrementAndGet() == 1
+                                ? Mono.error(new TooManyRequestException())
+                                : Mono.just("ok")))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void whenLockedOut_thenQueuedCallsAreReleasedWhenLockoutEnds() {
+        UpstreamAdmissionScheduler scheduler = scheduler(1, Duration.ofMillis(300), Duration.ofSeconds(3));
+
+        scheduler.schedule(UpstreamPriority.HIGH, () -> Mono.just(1)).block();
+        scheduler.schedule(UpstreamPriority.HIGH, () -> Mono.just(2)).block();
+        Integer queued =
+                scheduler.schedule(UpstreamPriority.HIGH, () -> Mono.just(3)).block(Duration.ofSeconds(5));
+
+        assertThat(queued).isEqualTo(3);
+        assertThat(scheduler.getQueueSize()).isZero();
+    }
+
+    @Test
+    void whenSentCallIsCancelled_thenItKeepsItsSlotButDoesNotCountAsAccepted() {
+        UpstreamAdmissionScheduler scheduler = scheduler(3, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        AtomicInteger sent = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            scheduler
+                    .schedule(UpstreamPriority.HIGH, () -> Mono.defer(() -> {
+                        sent.incrementAndGet();
+                        return Mono.never();
+                    }))
+                    .subscribe()
+                    .dispose();
+        }
+
+        assertThat(sent).hasValue(2);
+        assertThat(scheduler.getRemainingBudget()).isEqualTo(2);
+        for (int i = 0; i < 2; i++) {
+            scheduler.schedule(UpstreamPriority.HIGH, () -> Mono.just("sent")).block();
+        }
+        assertThat(scheduler.getEstimatedLimit()).isEqualTo(3);
+        assertThat(scheduler.getRemainingBudget()).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package com.reliaquest.api.service.consumer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InternalServerError;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+class UpstreamResiliencePolicyTest {
+
+    private static UpstreamResiliencePolicy policy(boolean hedgeEnabled) {
+        return new UpstreamResiliencePolicy(
+                2,
+                Duration.ofMillis(5),
+                Duration.ofMillis(20),
+                0.5,
+                Duration.ofSeconds(5),
+                hedgeEnabled,
+                Duration.ofMillis(20),
+                Duration.ofMillis(100));
+    }
+
+    @Test
+    void whenReadFailsWithServerError_thenItIsRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy(false)
+                .retryingRead(
+                        "test",
+                        () -> attempts.incrementAndGet() < 3
+                                ? Mono.error(new InternalServerError(503))
+                                : Mono.just("ok"))
+                .block();
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void whenRetriesAreExhausted_thenOriginalErrorIsThrown() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(InternalServerError.class, () -> policy(false)
+                .retryingRead("test", () -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(new InternalServerError(500));
+                })
+                .block());
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void whenReadFailsWithNotFound_thenItIsNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(EmployeeNotFoundException.class, () -> policy(false)
+                .retryingRead("test", () -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(new EmployeeNotFoundException("id"));
+                })
+                .block());
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void whenPrimaryIsSlow_thenHedgedAttemptAnswers() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy(true)
+                .hedgedRead(() -> attempts.incrementAndGet() == 1
+                        ? Mono.delay(Duration.ofSeconds(2)).thenReturn("primary")
+                        : Mono.just("hedge"))
+                .block(Duration.ofSeconds(1));
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void whenPrimaryIsFast_thenNoHedgedAttemptIsMade() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy(true)
+                .hedgedRead(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.just("primary");
+                })
+                .block();
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void whenBothHedgedAttemptsFail_thenOriginalErrorIsThrown() {
+        assertThrows(InternalServerError.class, () -> policy(true)
+                .hedgedRead(() -> Mono.delay(Duration.ofMillis(150)).then(Mono.error(new InternalServerError(502))))
+                .block(Duration.ofSeconds(2)));
+    }
+
+    @Test
+    void whenObservedP95IsOutsideConfiguredRange_thenHedgeDelayIsClampedToIt() {
+        UpstreamResiliencePolicy policy = policy(true);
+        LatencyTracker latency = (LatencyTracker) ReflectionTestUtils.getField(policy, "hedgedLatency");
+
+        assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(100));
+        for (int i = 0; i < 20; i++) {
+            latency.record(Duration.ofMillis(1));
+        }
+        assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(20));
+        for (int i = 0; i < 256; i++) {
+            latency.record(Duration.ofSeconds(3));
+        }
+        assertThat(policy.hedgeDelay()).isEqualTo(Duration.ofMillis(100));
+    }
+}
@@ -6,34 +6,40 @@ import static com.reliaquest.api.util.TestStaticEmployees.luke;
 import static com.reliaquest.api.util.TestStaticEmployees.lukeDeleteInput;
 import static com.reliaquest.api.util.TestStaticEmployees.lukeInput;
 import static com.reliaquest.api.util.TestStaticEmployees.shirleen;
+import static com.reliaquest.api.util.TestStaticEmployees.topTenEmployeeNames;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
 import com.reliaquest.api.exception.ApiResponseJsonParseException;
 import com.reliaquest.api.exception.BadRequestException;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
 import com.reliaquest.api.exception.InternalServerError;
 import com.reliaquest.api.exception.TooManyRequestException;
 import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeInput;
 import com.reliaquest.api.model.Employee;
-import com.reliaquest.api.model.Top10Employees;
 import com.reliaquest.api.service.consumer.impl.EmployeeClient;
 import com.reliaquest.api.util.TestConstants;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(SpringRunner.class)
 @SpringBootTest
@@ -45,8 +51,13 @@ class EmployeeServiceTest {
     @MockBean
     private EmployeeClient employeeClient;
 
-    @MockBean
-    private Top10Employees top10Employees;
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @BeforeEach
+    void clearSnapshot() {
+        employeeSnapshotCache.invalidate();
+    }
 
     @Test
     void givenEmployeeList_whenGetAllEmployees_thenListOfEmployeeShouldBeReturned() {
@@ -75,6 +86,61 @@ class EmployeeServiceTest {
         assertThat(employees).hasSize(0);
     }
 
+    @Test
+    void givenFreshSnapshot_whenGetAllEmployeesTwice_thenUpstreamIsCalledOnce() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+
+        employeeService.getAllEmployees();
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        assertThat(employees).hasSize(50);
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void givenFreshSnapshot_whenGetEmployeeById_thenServedWithoutUpstreamCall() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+        employeeService.getAllEmployees();
+
+        Employee employee = employeeService.getEmployeeById(arleen().getId());
+
+        assertThat(employee.getEmployeeName()).isEqualTo(arleen().getEmployeeName());
+        verify(employeeClient, never()).getEmployeeById(arleen().getId());
+    }
+
+    @Test
+    void givenFreshSnapshot_whenCreateEmployee_thenWrittenThroughWithoutReload() {
+        CreateEmployeeInput input = lukeInput();
+        Employee created = luke();
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+        given(employeeClient.createEmployee(input)).willReturn(created);
+
+        employeeService.getAllEmployees();
+        employeeService.createEmployee(input);
+
+        assertThat(employeeService.getAllEmployees()).hasSize(51).contains(created);
+        assertThat(employeeService.getEmployeesByNameSearch("luke")).contains(created);
+        assertThat(employeeService.getEmployeeById(created.getId())).isEqualTo(created);
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void givenFreshSnapshot_whenDeleteEmployee_thenWrittenThroughWithoutReload() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+        given(employeeClient.deleteEmployee(DeleteEmployeeInput.builder()
+                        .name(arleen().getEmployeeName())
+                        .build()))
+                .willReturn("true");
+
+        employeeService.getAllEmployees();
+        employeeService.deleteEmployee(arleen().getId());
+
+        assertThat(employeeService.getAllEmployees()).hasSize(49);
+        assertThat(employeeService.getEmployeesByNameSearch("Arleen")).isEmpty();
+        assertThat(employeeService.getCountOfEmployeesEarningMoreThan(0)).isEqualTo(49);
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
     @Test
     void whenGetAllEmployees_thenThrowsTooManyRequests() {
         given(employeeClient.getAllEmployees()).willThrow(new TooManyRequestException());
@@ -119,6 +185,38 @@ class EmployeeServiceTest {
         assertThrows(TooManyRequestException.class, () -> employeeService.getEmployeeById(empId));
     }
 
+    @Test
+    void whenGetEmployeeById_IfUpstreamFailsWhileSnapshotIsStale_thenServedFromStaleSnapshot() {
+        final Employee luke = luke();
+        given(employeeClient.getAllEmployees()).willReturn(List.of(luke));
+        given(employeeClient.getEmployeeById(luke.getId())).willThrow(new TooManyRequestException());
+        given(employeeClient.getEmployeeById("missing")).willThrow(new InternalServerError(503));
+        employeeService.getAllEmployees();
+        Object ttl = ReflectionTestUtils.getField(employeeSnapshotCache, "ttl");
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        try {
+            assertThat(employeeService.getEmployeeById(luke.getId())).isEqualTo(luke);
+            assertThrows(InternalServerError.class, () -> employeeService.getEmployeeById("missing"));
+        } finally {
+            ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", ttl);
+        }
+    }
+
+    @Test
+    void whenGetEmployeeById_IfUpstreamSaysNotFoundWhileSnapshotIsStale_thenThrowsEmployeeNotFoundException() {
+        final Employee luke = luke();
+        given(employeeClient.getAllEmployees()).willReturn(List.of(luke));
+        given(employeeClient.getEmployeeById(luke.getId())).willThrow(new EmployeeNotFoundException(luke.getId()));
+        employeeService.getAllEmployees();
+        Object ttl = ReflectionTestUtils.getField(employeeSnapshotCache, "ttl");
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        try {
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById(luke.getId()));
+        } finally {
+            ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", ttl);
+        }
+    }
+
     @Test
     void whenGetEmployeeById_thenThrowsApiResponseJsonParseException() {
         String empId = UUID.randomUUID().toString();
@@ -161,32 +259,65 @@ class EmployeeServiceTest {
     }
 
     @Test
-    void whenGetHighestSalaryOfEmployee_WhenTop10Exists() {
-        Employee highestSalaryEmployee = luke();
-        given(top10Employees.getHighestSalaryEmployee()).willReturn(highestSalaryEmployee);
+    void whenGetHighestSalaryAndTopTen_thenReadFromSnapshotSalaryIndex() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+
         Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
-        assertThat(highestSalary).isEqualTo(300000);
-        verify(top10Employees, times(1)).getHighestSalaryEmployee();
+        List<String> topTen = employeeService.getTopTenHighestEarningEmployeeNames();
+
+        assertThat(highestSalary)
+                .isEqualTo(getAllEmployees().stream()
+                        .mapToInt(Employee::getEmployeeSalary)
+                        .max()
+                        .orElseThrow());
+        assertThat(topTen).containsExactlyElementsOf(topTenEmployeeNames());
+        verify(employeeClient, times(1)).getAllEmployees();
     }
 
     @Test
-    void whenGetHighestSalaryOfEmployee_WhenTop10DoesNotExist() {
-        given(top10Employees.getHighestSalaryEmployee()).willReturn(null);
+    void whenEmployeeCreatedOrDeleted_thenHighestSalaryAndTopTenFollowWithoutReload() {
+        Employee highestPaid = luke();
+        highestPaid.setEmployeeSalary(999999);
         given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
-        employeeService.getHighestSalaryOfEmployees();
-        verify(top10Employees, times(2)).getHighestSalaryEmployee();
+        given(employeeClient.createEmployee(lukeInput())).willReturn(highestPaid);
+        given(employeeClient.getEmployeeById(highestPaid.getId())).willReturn(Optional.of(highestPaid));
+        employeeService.getAllEmployees();
+
+        employeeService.createEmployee(lukeInput());
+
+        assertThat(employeeService.getHighestSalaryOfEmployees()).isEqualTo(999999);
+        assertThat(employeeService.getTopTenHighestEarningEmployeeNames())
+                .hasSize(10)
+                .startsWith(highestPaid.getEmployeeName());
+
+        employeeService.deleteEmployee(highestPaid.getId());
+
+        assertThat(employeeService.getTopTenHighestEarningEmployeeNames())
+                .containsExactlyElementsOf(topTenEmployeeNames());
+        verify(employeeClient, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void whenGetHighestSalaryOfEmployee_AfterSnapshotReload_thenNewRosterIsRead() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees()).willReturn(List.of(luke()));
+        Integer first = employeeService.getHighestSalaryOfEmployees();
+        employeeSnapshotCache.invalidate();
+
+        Integer second = employeeService.getHighestSalaryOfEmployees();
+
+        assertThat(first).isNotEqualTo(luke().getEmployeeSalary());
+        assertThat(second).isEqualTo(luke().getEmployeeSalary());
+        assertThat(employeeService.getTopTenHighestEarningEmployeeNames()).containsExactly(luke().getEmployeeName());
     }
 
     @Test
     void whenGetHighestSalaryOfEmployee_IfTooManyRequests_thenThrowsTooManyRequestException() {
-        given(top10Employees.getHighestSalaryEmployee()).willReturn(null);
         given(employeeClient.getAllEmployees()).willThrow(new TooManyRequestException());
         assertThrows(TooManyRequestException.class, () -> employeeService.getHighestSalaryOfEmployees());
     }
 
     @Test
     void whenGetHighestSalaryOfEmployee_IfApiResponseParsingFails_thenThrowsApiResponseJsonParseException() {
-        given(top10Employees.getHighestSalaryEmployee()).willReturn(null);
         given(employeeClient.getAllEmployees()).willThrow(new ApiResponseJsonParseException());
         assertThrows(ApiResponseJsonParseException.class, () -> employeeService.getHighestSalaryOfEmployees());
     }
@@ -272,4 +403,48 @@ class EmployeeServiceTest {
 
         assertThrows(TooManyRequestException.class, () -> employeeService.deleteEmployee(empId));
     }
+
+    @Test
+    void whenGetTopEarningEmployees_thenReturnHighestPaidFromSnapshot() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+
+        List<Employee> topEarners = employeeService.getTopEarningEmployees(3);
+
+        assertThat(topEarners)
+                .extracting(Employee::getEmployeeName)
+                .containsExactly("Mrs. Thomas Volkman", "Zackary Hauck MD", "Krysta Treutel");
+    }
+
+    @Test
+    void whenGetTopEarningEmployees_IfNIsNotPositive_thenThrowsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> employeeService.getTopEarningEmployees(0));
+    }
+
+    @Test
+    void whenGetSalaryRankOfEmployee_thenReturnRankWithinRoster() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+
+        assertThat(employeeService.getSalaryRankOfEmployee(arleen().getId())).isEqualTo(10);
+    }
+
+    @Test
+    void whenGetSalaryRankOfEmployee_IfEmployeeNotInRoster_thenThrowsEmployeeNotFoundException() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+
+        assertThrows(
+                EmployeeNotFoundException.class,
+                () -> employeeService.getSalaryRankOfEmployee(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void whenGetCountOfEmployeesEarningMoreThan_thenCountFromSnapshot() {
+        given(employeeClient.getAllEmployees()).willReturn(getAllEmployees());
+
+        assertThat(employeeService.getCountOfEmployeesEarningMoreThan(400000)).isEqualTo(9);
+    }
+
+    @Test
+    void whenGetSalaryPercentile_IfOutOfRange_thenThrowsBadRequestException() {
+        assertThrows(BadRequestException.class, () -> employeeService.getSalaryPercentile(101));
+    }
 }
@@ -0,0 +1,161 @@
+package com.reliaquest.api.service.provider.impl;
+
+import static com.reliaquest.api.util.TestStaticEmployees.arleen;
+import static com.reliaquest.api.util.TestStaticEmployees.getAllEmployees;
+import static com.reliaquest.api.util.TestStaticEmployees.luke;
+import static com.reliaquest.api.util.TestStaticEmployees.lukeDeleteInput;
+import static com.reliaquest.api.util.TestStaticEmployees.lukeInput;
+import static com.reliaquest.api.util.TestStaticEmployees.shirleen;
+import static com.reliaquest.api.util.TestStaticEmployees.topTenEmployeeNames;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InternalServerError;
+import com.reliaquest.api.exception.TooManyRequestException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.consumer.impl.ReactiveEmployeeClient;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+@SpringBootTest
+class ReactiveEmployeeServiceTest {
+
+    @Autowired
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @Autowired
+    private EmployeeSnapshotCache employeeSnapshotCache;
+
+    @MockBean
+    private ReactiveEmployeeClient reactiveEmployeeClient;
+
+    @BeforeEach
+    void setUp() {
+        employeeSnapshotCache.invalidate();
+    }
+
+    @Test
+    void whenGetAllEmployeesTwice_thenUpstreamIsCalledOnce() {
+        given(reactiveEmployeeClient.getAllEmployeesAsList()).willReturn(Mono.just(getAllEmployees()));
+
+        reactiveEmployeeService.getAllEmployees().collectList().block();
+        List<Employee> employees =
+                reactiveEmployeeService.getAllEmployees().collectList().block();
+
+        assertThat(employees).hasSize(50);
+        verify(reactiveEmployeeClient, times(1)).getAllEmployeesAsList();
+    }
+
+    @Test
+    void whenGetEmployeesByNameSearch_thenReturnMatchingEmployees() {
+        given(reactiveEmployeeClient.getAllEmployeesAsList()).willReturn(Mono.just(getAllEmployees()));
+
+        List<Employee> filteredEmployees = reactiveEmployeeService
+                .getEmployeesByNameSearch("leen")
+                .collectList()
+                .block();
+
+        assertThat(filteredEmployees)
+                .extracting("id")
+                .containsExactlyInAnyOrder(arleen().getId(), shirleen().getId());
+    }
+
+    @Test
+    void whenGetEmployeeById_IfUpstreamHasNoEmployee_thenThrowsEmployeeNotFoundException() {
+        given(reactiveEmployeeClient.getEmployeeById("missing")).willReturn(Mono.empty());
+
+        assertThrows(
+                EmployeeNotFoundException.class,
+                () -> reactiveEmployeeService.getEmployeeById("missing").block());
+    }
+
+    @Test
+    void whenGetEmployeeById_IfUpstreamFailsWhileSnapshotIsStale_thenServedFromStaleSnapshot() {
+        Employee luke = luke();
+        given(reactiveEmployeeClient.getAllEmployeesAsList()).willReturn(Mono.just(List.of(luke)));
+        given(reactiveEmployeeClient.getEmployeeById(luke.getId()))
+                .willReturn(Mono.error(new TooManyRequestException()));
+        given(reactiveEmployeeClient.getEmployeeById("missing")).willReturn(Mono.error(new InternalServerError(503)));
+        given(reactiveEmployeeClient.getEmployeeById(arleen().getId()))
+                .willReturn(Mono.error(new EmployeeNotFoundException(arleen().getId())));
+        reactiveEmployeeService.getAllEmployees().collectList().block();
+        Object ttl = ReflectionTestUtils.getField(employeeSnapshotCache, "ttl");
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ZERO);
+        try {
+            assertThat(reactiveEmployeeService.getEmployeeById(luke.getId()).block())
+                    .isEqualTo(luke);
+            assertThrows(
+                    InternalServerError.class,
+                    () -> reactiveEmployeeService.getEmployeeById("missing").block());
+            assertThrows(EmployeeNotFoundException.class, () -> reactiveEmployeeService
+                    .getEmployeeById(arleen().getId())
+                    .block());
+        } finally {
+            ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", ttl);
+        }
+    }
+
+    @Test
+    void whenGetHighestSalaryAndTopTen_thenServedFromRoster() {
+        given(reactiveEmployeeClient.getAllEmployeesAsList()).willReturn(Mono.just(getAllEmployees()));
+
+        Integer highestSalary =
+                reactiveEmployeeService.getHighestSalaryOfEmployees().block();
+        List<String> topTen = reactiveEmployeeService
+                .getTopTenHighestEarningEmployeeNames()
+                .collectList()
+                .block();
+
+        assertThat(highestSalary).isNotNull();
+        assertThat(topTen).containsExactlyInAnyOrderElementsOf(topTenEmployeeNames());
+    }
+
+    @Test
+    void whenRosterIsReloaded_thenHighestSalaryFollowsTheNewRoster() {
+        given(reactiveEmployeeClient.getAllEmployeesAsList())
+                .willReturn(Mono.just(getAllEmployees()))
+                .willReturn(Mono.just(List.of(luke())));
+
+        Integer first = reactiveEmployeeService.getHighestSalaryOfEmployees().block();
+        employeeSnapshotCache.invalidate();
+        Integer second = reactiveEmployeeService.getHighestSalaryOfEmployees().block();
+        List<String> topTen = reactiveEmployeeService
+                .getTopTenHighestEarningEmployeeNames()
+                .collectList()
+                .block();
+
+        assertThat(first).isNotEqualTo(luke().getEmployeeSalary());
+        assertThat(second).isEqualTo(luke().getEmployeeSalary());
+        assertThat(topTen).containsExactly(luke().getEmployeeName());
+    }
+
+    @Test
+    void whenCreateEmployee_IfTooManyRequests_thenThrowsTooManyRequestException() {
+        given(reactiveEmployeeClient.createEmployee(lukeInput())).willReturn(Mono.error(new TooManyRequestException()));
+
+        assertThrows(
+                TooManyRequestException.class,
+                () -> reactiveEmployeeService.createEmployee(lukeInput()).block());
+    }
+
+    @Test
+    void whenDeleteEmployee_thenReturnDeletedEmployeeName() {
+        Employee luke = luke();
+        given(reactiveEmployeeClient.getEmployeeById(luke.getId())).willReturn(Mono.just(luke));
+        given(reactiveEmployeeClient.deleteEmployee(lukeDeleteInput())).willReturn(Mono.just("true"));
+
+        assertThat(reactiveEmployeeService.deleteEmployee(luke.getId()).block()).isEqualTo("Luke Skywalker");
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class LogSummaryTest {
+
+    @Test
+    void whenEmployeesExceedTheCap_thenOnlyCountAndFirstIdsAreLogged() {
+        List<Employee> employees = IntStream.range(0, 8)
+                .mapToObj(i -> Employee.builder()
+                        .id("id-" + i)
+                        .employeeName("Name " + i)
+                        .build())
+                .toList();
+
+        assertThat(LogSummary.employees(employees)).hasToString("count=8 ids=[id-0, id-1, id-2, id-3, id-4, ...+3]");
+        assertThat(LogSummary.employees(employees.subList(0, 2))).hasToString("count=2 ids=[id-0, id-1]");
+    }
+
+    @Test
+    void whenDetailIsTooLong_thenItIsTruncated() {
+        String payload = "x".repeat(LogSummary.MAX_DETAIL_CHARS + 10);
+
+        assertThat(LogSummary.detail(payload).toString())
+                .hasSize(LogSummary.MAX_DETAIL_CHARS + "...(10 more chars)".length())
+                .endsWith("...(10 more chars)");
+        assertThat(LogSummary.detail("short")).hasToString("short");
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class MicroBatcherTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private MicroBatcher<Integer, String> microBatcher;
+
+    @AfterEach
+    void dispose() {
+        microBatcher.dispose();
+    }
+
+    @Test
+    void whenCallsArriveWithinWindow_thenSentAsOneBatchAndFannedOut() {
+        microBatcher = new MicroBatcher<>(100, Duration.ofMillis(200), 1, inputs -> {
+            batches.add(inputs);
+            return Mono.just(inputs.stream().map(input -> "r" + input).toList());
+        });
+
+        List<String> results =
+                Flux.range(0, 5).flatMap(microBatcher::submit).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(results).containsExactlyInAnyOrder("r0", "r1", "r2", "r3", "r4");
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void whenMaxBatchSizeReached_thenBatchSentBeforeWindowEnds() {
+        microBatcher = new MicroBatcher<>(3, Duration.ofSeconds(30), 2, inputs -> {
+            batches.add(inputs);
+            return Mono.just(inputs.stream().map(String::valueOf).toList());
+        });
+
+        List<String> results = Flux.fromStream(IntStream.range(0, 6).boxed())
+                .flatMap(microBatcher::submit)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(6);
+        assertThat(batches).hasSize(2).allSatisfy(batch -> assertThat(batch).hasSize(3));
+    }
+
+    @Test
+    void whenBatchCallFails_thenEveryCallerInBatchGetsError() {
+        microBatcher = new MicroBatcher<>(
+                10, Duration.ofMillis(50), 1, inputs -> Mono.error(new IllegalArgumentException("upstream")));
+
+        assertThatThrownBy(() -> microBatcher.submit(1).block(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("upstream");
+    }
+
+    @Test
+    void whenBatchReturnsWrongNumberOfResults_thenCallersGetError() {
+        microBatcher = new MicroBatcher<>(10, Duration.ofMillis(50), 1, inputs -> Mono.just(List.of()));
+
+        assertThatThrownBy(() -> microBatcher.submit(1).block(Duration.ofSeconds(5)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void whenBatchesCloseWhileInFlightLimitIsReached_thenTheyWaitAndLaterCallsStillGoThrough() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        microBatcher = new MicroBatcher<>(2, Duration.ofMillis(10), 1, inputs -> Mono.defer(() -> {
+                    batches.add(inputs);
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return Mono.just(inputs.stream().map(input -> "r" + input).toList());
+                })
+                .delayElement(Duration.ofMillis(100))
+                .doFinally(ignored -> inFlight.decrementAndGet()));
+
+        List<String> results = Flux.range(0, 8)
+                .delayElements(Duration.ofMillis(25))
+                .flatMap(microBatcher::submit)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(results).containsExactlyInAnyOrder("r0", "r1", "r2", "r3", "r4", "r5", "r6", "r7");
+        assertThat(batches.size()).isGreaterThan(1);
+        assertThat(maxInFlight).hasValue(1);
+        assertThat(microBatcher.submit(8).block(Duration.ofSeconds(5))).isEqualTo("r8");
+    }
+}
@@ -0,0 +1,71 @@
+package com.reliaquest.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void whenSameKeyIsInFlight_thenCallersShareOneExecution() {
+        AtomicInteger executions = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        Mono<String> first = singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            return upstream.asMono();
+        });
+        Mono<String> second = singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            return upstream.asMono();
+        });
+
+        StringBuilder results = new StringBuilder();
+        first.subscribe(results::append);
+        second.subscribe(results::append);
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        upstream.tryEmitValue("x");
+
+        assertThat(results).hasToString("xx");
+        assertThat(executions).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void whenPreviousCallCompleted_thenNextCallExecutesAgain() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight
+                .execute("key", () -> Mono.fromSupplier(() -> "v" + executions.incrementAndGet()))
+                .block();
+        String second = singleFlight
+                .execute("key", () -> Mono.fromSupplier(() -> "v" + executions.incrementAndGet()))
+                .block();
+
+        assertThat(second).isEqualTo("v2");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void whenDifferentKeys_thenCallsAreNotCoalesced() {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("a", () -> Mono.never().map(Object::toString)).subscribe();
+        singleFlight.execute("b", () -> Mono.never().map(Object::toString)).subscribe();
+        singleFlight
+                .execute("a", () -> {
+                    executions.incrementAndGet();
+                    return Mono.just("unused");
+                })
+                .subscribe();
+
+        assertThat(singleFlight.inFlightCount()).isEqualTo(2);
+        assertThat(executions).hasValue(0);
+    }
+}
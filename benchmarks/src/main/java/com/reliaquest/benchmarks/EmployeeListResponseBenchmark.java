@@ -0,0 +1,46 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeListResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Jackson binding of a full upstream list body, as the non-streaming client path decodes it. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeListResponseBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        body = objectMapper.writeValueAsBytes(
+                Map.of("data", Rosters.employees(rosterSize), "status", "Successfully processed request."));
+    }
+
+    @Benchmark
+    public EmployeeListResponse deserialize() throws IOException {
+        return objectMapper.readValue(body, EmployeeListResponse.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.EmployeeSnapshotCache;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.consumer.impl.EmployeeClient;
+import com.reliaquest.api.service.provider.impl.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * {@link EmployeeService#getEmployeesByNameSearch} against a snapshot that stays fresh for the whole run, so no
+ * upstream call is made and only the index lookup is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeNameSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int rosterSize;
+
+    /** A fragment most names contain, a surname, and a miss. */
+    @Param({"an", "Smith", "xyzzy"})
+    String searchString;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        final var roster = Rosters.employees(rosterSize);
+        final var employeeSnapshotCache = new EmployeeSnapshotCache();
+        ReflectionTestUtils.setField(employeeSnapshotCache, "ttl", Duration.ofDays(1));
+        employeeSnapshotCache.getOrLoad(() -> roster);
+        employeeService = new EmployeeService();
+        ReflectionTestUtils.setField(employeeService, "employeeClient", new EmployeeClient());
+        ReflectionTestUtils.setField(employeeService, "employeeSnapshotCache", employeeSnapshotCache);
+    }
+
+    @Benchmark
+    public List<Employee> search() {
+        return employeeService.getEmployeesByNameSearch(searchString);
+    }
+}
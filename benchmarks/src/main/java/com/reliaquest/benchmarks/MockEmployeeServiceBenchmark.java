@@ -0,0 +1,67 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MockEmployeeServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int rosterSize;
+
+    private List<MockEmployee> roster;
+    private DeleteMockEmployeeInput[] deleteInputs;
+    private MockEmployeeStore mockEmployeeStore;
+    private MockEmployeeService mockEmployeeService;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.mockEmployees(rosterSize);
+        deleteInputs = roster.stream()
+                .map(mockEmployee -> {
+                    final var input = new DeleteMockEmployeeInput();
+                    input.setName(mockEmployee.getName());
+                    return input;
+                })
+                .toArray(DeleteMockEmployeeInput[]::new);
+        mockEmployeeStore = new MockEmployeeStore(roster);
+        mockEmployeeService = new MockEmployeeService(new Faker(), mockEmployeeStore);
+    }
+
+    @Benchmark
+    public Optional<MockEmployee> findById() {
+        return mockEmployeeService.findById(roster.get(next++ % rosterSize).getId());
+    }
+
+    /** Deletes by name and puts the same employee back, so the roster size holds steady across calls. */
+    @Benchmark
+    public boolean deleteAndRestore() {
+        final var position = next++ % rosterSize;
+        final var deleted = mockEmployeeService.delete(deleteInputs[position]);
+        mockEmployeeStore.add(roster.get(position));
+        return deleted;
+    }
+}
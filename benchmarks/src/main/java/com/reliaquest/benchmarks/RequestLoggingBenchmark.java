@@ -0,0 +1,118 @@
+package com.reliaquest.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.util.LogSampler;
+import com.reliaquest.api.util.LogSummary;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+
+/**
+ * The logging a name search costs on the request thread: the search string plus the result list logged by the
+ * service and by the controller, at INFO with debug off. {@code full} is the previous behaviour of logging the list
+ * itself, {@code summary} the current count-and-ids summary with the sampled debug check. Output goes through the
+ * api's console pattern to a discarding stream, either directly ({@code sync}) or behind a non-blocking
+ * {@link AsyncAppender} ({@code async}), which still formats the message on the caller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    /** Matches for a narrow and a broad search. */
+    @Param({"10", "1000"})
+    int resultSize;
+
+    @Param({"full", "summary"})
+    String payload;
+
+    @Param({"sync", "async"})
+    String appender;
+
+    private LoggerContext loggerContext;
+
+    private Logger log;
+
+    private final LogSampler logSampler = new LogSampler();
+
+    private List<Employee> results;
+
+    @Setup
+    public void setUp() {
+        results = Rosters.employees(resultSize);
+        loggerContext = new LoggerContext();
+        // Set by logback's own initializer; without it every event throws and swallows an NPE looking up the MDC.
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+
+        final var encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        final var console = new OutputStreamAppender<ILoggingEvent>();
+        console.setContext(loggerContext);
+        console.setEncoder(encoder);
+        console.setOutputStream(OutputStream.nullOutputStream());
+        console.start();
+
+        Appender<ILoggingEvent> root = console;
+        if ("async".equals(appender)) {
+            final var async = new AsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(console);
+            async.start();
+            root = async;
+        }
+        final var logger = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(root);
+        log = loggerContext.getLogger(RequestLoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void searchRequest() {
+        log.info("getEmployeesByNameSearch : searchString {} ", "an");
+        if ("full".equals(payload)) {
+            log.info("getEmployeesByNameSearch: Search Results {}", results);
+            log.info("getEmployeesByNameSearch :  filteredEmployees {}", results);
+            return;
+        }
+        log.info("getEmployeesByNameSearch: Search Results {}", LogSummary.employees(results));
+        log.info("getEmployeesByNameSearch :  filteredEmployees {}", LogSummary.employees(results));
+        if (logSampler.sample(log, "getEmployeesByNameSearch")) {
+            log.debug("getEmployeesByNameSearch : sampled filteredEmployees {}", LogSummary.detail(results));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import net.datafaker.Faker;
+
+/** Seeded rosters, so every run and every fork benchmarks the same data. */
+final class Rosters {
+
+    static final long SEED = 42;
+
+    private Rosters() {}
+
+    static List<Employee> employees(int size) {
+        return mockEmployees(size).stream()
+                .map(mockEmployee -> Employee.builder()
+                        .id(mockEmployee.getId().toString())
+                        .employeeName(mockEmployee.getName())
+                        .employeeSalary(mockEmployee.getSalary())
+                        .employeeAge(mockEmployee.getAge())
+                        .employeeTitle(mockEmployee.getTitle())
+                        .employeeEmail(mockEmployee.getEmail())
+                        .build())
+                .toList();
+    }
+
+    /** Names carry their position so that delete-by-name always hits the intended employee. */
+    static List<MockEmployee> mockEmployees(int size) {
+        final var random = new Random(SEED);
+        final var faker = new Faker(Locale.ENGLISH, random);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(faker.name().fullName() + " " + i)
+                    .salary(random.nextInt(30000, 500000))
+                    .age(random.nextInt(16, 70))
+                    .title(faker.job().title())
+                    .email(faker.internet().emailAddress())
+                    .build());
+        }
+        return employees;
+    }
+}
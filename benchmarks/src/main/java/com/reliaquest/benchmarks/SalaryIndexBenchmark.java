@@ -0,0 +1,58 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.SalaryIndex;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalaryIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int rosterSize;
+
+    private List<Employee> roster;
+    private SalaryIndex salaryIndex;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.employees(rosterSize);
+        salaryIndex = SalaryIndex.of(roster);
+    }
+
+    /** A full rebuild, as after every snapshot reload. */
+    @Benchmark
+    public SalaryIndex build() {
+        return SalaryIndex.of(roster);
+    }
+
+    /** The read behind /highestSalary and /topTenHighestEarningEmployeeNames. */
+    @Benchmark
+    public List<Employee> topTen() {
+        return salaryIndex.topN(10);
+    }
+
+    /** Removing and re-adding roster members in turn, as a delete followed by a create writes through. */
+    @Benchmark
+    public SalaryIndex removeAndAdd() {
+        final var employee = roster.get(next++ % rosterSize);
+        return salaryIndex.withRemoved(employee).withAdded(employee);
+    }
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** A Spring Boot application in a child JVM, with its output sent to a log file so it stays out of the report. */
+final class ApplicationProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private final String name;
+    private final Process process;
+
+    private ApplicationProcess(String name, Process process) {
+        this.name = name;
+        this.process = process;
+    }
+
+    /** Starts {@code mainClass} and returns once {@code readiness} answers with any HTTP status. */
+    static ApplicationProcess start(
+            String name,
+            String classpath,
+            String mainClass,
+            List<String> jvmArgs,
+            List<String> args,
+            Path logDir,
+            URI readiness)
+            throws IOException, InterruptedException {
+        Files.createDirectories(logDir);
+        Path log = logDir.resolve(name + ".log");
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(mainClass);
+        command.addAll(args);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        ApplicationProcess application = new ApplicationProcess(name, process);
+        try {
+            application.awaitReady(readiness, log);
+        } catch (IOException | InterruptedException | RuntimeException ex) {
+            application.close();
+            throw ex;
+        }
+        return application;
+    }
+
+    private void awaitReady(URI readiness, Path log) throws IOException, InterruptedException {
+        HttpClient client =
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("%s exited with %d, see %s".formatted(name, process.exitValue(), log));
+            }
+            try {
+                client.send(
+                        HttpRequest.newBuilder(readiness)
+                                .timeout(Duration.ofSeconds(2))
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException notYetListening) {
+                Thread.sleep(250);
+            }
+        }
+        throw new IllegalStateException("%s did not start within %s, see %s".formatted(name, STARTUP_TIMEOUT, log));
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
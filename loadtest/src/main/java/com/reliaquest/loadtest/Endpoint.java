@@ -0,0 +1,29 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/** The routes of {@code IEmployeeController}, named after its methods, with their default share of the load. */
+enum Endpoint {
+    GET_ALL_EMPLOYEES("getAllEmployees", 1),
+    GET_EMPLOYEES_BY_NAME_SEARCH("getEmployeesByNameSearch", 4),
+    GET_EMPLOYEE_BY_ID("getEmployeeById", 10),
+    GET_HIGHEST_SALARY_OF_EMPLOYEES("getHighestSalaryOfEmployees", 2),
+    GET_TOP_TEN_HIGHEST_EARNING_EMPLOYEE_NAMES("getTopTenHighestEarningEmployeeNames", 2),
+    CREATE_EMPLOYEE("createEmployee", 1),
+    DELETE_EMPLOYEE_BY_ID("deleteEmployeeById", 1);
+
+    final String route;
+    final int defaultWeight;
+
+    Endpoint(String route, int defaultWeight) {
+        this.route = route;
+        this.defaultWeight = defaultWeight;
+    }
+
+    static Endpoint ofRoute(String route) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.route.equals(route))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown route: " + route));
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcomes of one endpoint's requests. Latency runs from the moment a request was scheduled, not from when it was
+ * sent, so a stalled system shows up in the percentiles instead of silently lowering the offered load.
+ */
+final class EndpointStats {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+
+    /** Transport failures and non-2xx answers other than 429. */
+    final LongAdder errors = new LongAdder();
+
+    final LongAdder throttled = new LongAdder();
+
+    /** Arrivals not sent because the in-flight limit was reached. */
+    final LongAdder dropped = new LongAdder();
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(latencyNanos, latencies.getHighestTrackableValue()));
+        if (status == TOO_MANY_REQUESTS) {
+            throttled.increment();
+        } else if (status < 200 || status >= 300) {
+            errors.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        record(latencyNanos, 0);
+    }
+}
@@ -0,0 +1,199 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: arrivals are scheduled from the {@link LoadProfile} alone and sent whether or not earlier requests
+ * have completed, up to {@code maxInFlight}. The endpoint of each arrival is drawn from the weighted mix with a seeded
+ * generator, so two runs with the same options issue the same request sequence.
+ *
+ * <p>Ids and names come from the roster read at startup. Deletes only remove employees this driver created, so the
+ * seeded roster is left intact; a delete drawn before any create has completed is sent as a create instead.
+ */
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final String SEED_NAME = "LoadTest Employee";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient client;
+    private final URI employees;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final SplittableRandom random;
+
+    private final List<String> ids = new ArrayList<>();
+    private final List<String> searchTerms = new ArrayList<>();
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    private long created;
+
+    LoadDriver(HttpClient client, URI api, Map<Endpoint, Integer> mix, int maxInFlight, long seed) {
+        this.client = client;
+        this.employees = api.resolve("/employee");
+        this.endpoints = mix.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += mix.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The endpoint mix has no positive weight");
+        }
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /** Reads the roster the driver draws ids and search terms from. */
+    void prime() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(employees).timeout(REQUEST_TIMEOUT).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Could not read the roster: HTTP " + response.statusCode());
+        }
+        for (JsonNode employee : objectMapper.readTree(response.body())) {
+            ids.add(employee.path("id").asText());
+            String name = employee.path("employee_name").asText("");
+            searchTerms.add(name.length() > 3 ? name.substring(0, 3) : name);
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("The roster is empty");
+        }
+    }
+
+    Map<Endpoint, EndpointStats> run(LoadProfile profile, Duration duration) throws InterruptedException {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : endpoints) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            Endpoint endpoint = nextEndpoint();
+            if (endpoint == Endpoint.DELETE_EMPLOYEE_BY_ID && createdIds.isEmpty()) {
+                endpoint = Endpoint.CREATE_EMPLOYEE;
+            }
+            send(endpoint, next, stats.computeIfAbsent(endpoint, ignored -> new EndpointStats()));
+            double rate = profile.rateAt(next - start);
+            // A profile at zero still moves the schedule forward so a later rise is picked up.
+            next += rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : TimeUnit.MILLISECONDS.toNanos(10);
+        }
+        if (inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+        return stats;
+    }
+
+    private Endpoint nextEndpoint() {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private void send(Endpoint endpoint, long scheduled, EndpointStats stats) {
+        if (!inFlight.tryAcquire()) {
+            stats.dropped.increment();
+            return;
+        }
+        HttpRequest request = request(endpoint);
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+            long latency = System.nanoTime() - scheduled;
+            inFlight.release();
+            if (error != null) {
+                stats.recordFailure(latency);
+                return;
+            }
+            stats.record(latency, response.statusCode());
+            if (endpoint == Endpoint.CREATE_EMPLOYEE && response.statusCode() == 200) {
+                rememberCreated(response.body());
+            }
+        });
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (endpoint) {
+            case GET_ALL_EMPLOYEES -> builder.uri(employees).build();
+            case GET_EMPLOYEES_BY_NAME_SEARCH -> builder.uri(route("/search/"
+                            + URLEncoder.encode(pick(searchTerms), StandardCharsets.UTF_8)
+                                    .replace("+", "%20")))
+                    .build();
+            case GET_EMPLOYEE_BY_ID -> builder.uri(route("/" + pick(ids))).build();
+            case GET_HIGHEST_SALARY_OF_EMPLOYEES -> builder.uri(route("/highestSalary"))
+                    .build();
+            case GET_TOP_TEN_HIGHEST_EARNING_EMPLOYEE_NAMES -> builder.uri(route("/topTenHighestEarningEmployeeNames"))
+                    .build();
+            case CREATE_EMPLOYEE -> builder.uri(employees)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(createBody()))
+                    .build();
+            case DELETE_EMPLOYEE_BY_ID -> builder.uri(route("/" + createdIds.poll()))
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    /** Unique names, since the upstream deletes by name. */
+    private String createBody() {
+        return """
+                {"name":"%s %d","salary":%d,"age":%d,"title":"Load Tester"}"""
+                .formatted(SEED_NAME, ++created, random.nextInt(30000, 500000), random.nextInt(16, 70));
+    }
+
+    private void rememberCreated(String body) {
+        try {
+            String id = objectMapper.readTree(body).path("id").asText(null);
+            if (id != null) {
+                createdIds.add(id);
+            }
+        } catch (IOException ignored) {
+            // Counted as a success; the employee just cannot be deleted later.
+        }
+    }
+
+    private URI route(String path) {
+        return URI.create(employees + path);
+    }
+
+    private String pick(List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
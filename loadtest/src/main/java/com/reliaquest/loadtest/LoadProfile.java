@@ -0,0 +1,27 @@
+package com.reliaquest.loadtest;
+
+import java.time.Duration;
+
+/** Target arrival rate, in requests per second, as a function of the time since the run started. */
+@FunctionalInterface
+interface LoadProfile {
+
+    double rateAt(long elapsedNanos);
+
+    static LoadProfile constant(double rate) {
+        return elapsed -> rate;
+    }
+
+    /** Linear from {@code from} to {@code to} over {@code over}, then holds {@code to}. */
+    static LoadProfile ramp(double from, double to, Duration over) {
+        long span = Math.max(1, over.toNanos());
+        return elapsed -> elapsed >= span ? to : from + (to - from) * elapsed / span;
+    }
+
+    /** {@code base}, raised to {@code peak} for the first {@code length} of every {@code every}. */
+    static LoadProfile burst(double base, double peak, Duration length, Duration every) {
+        long period = Math.max(1, every.toNanos());
+        long burst = length.toNanos();
+        return elapsed -> elapsed % period < burst ? peak : base;
+    }
+}
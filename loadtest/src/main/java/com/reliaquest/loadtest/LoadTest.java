@@ -0,0 +1,227 @@
+package com.reliaquest.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Starts the mock server and the api on loopback, each in its own JVM, and drives open-model load against every
+ * {@code IEmployeeController} route, then prints throughput, latency percentiles, and error and 429 rates per endpoint.
+ *
+ * <p>Run with {@code ./gradlew loadtest:loadTest}; every option below is a {@code -Ploadtest.<name>} property:
+ *
+ * <pre>
+ * profile             constant | ramp | burst                         (constant)
+ * rate                arrivals per second; the ramp target, the burst base (100)
+ * start-rate          ramp start                                      (10)
+ * burst-rate          rate during a burst                             (5 x rate)
+ * burst-seconds       length of each burst                            (2)
+ * burst-every-seconds time from one burst to the next                 (10)
+ * seconds             measured duration; a ramp spans all of it       (30)
+ * warmup-seconds      constant load at rate before measuring          (10)
+ * mix                 route=weight pairs, e.g. getEmployeeById=10,createEmployee=0; unlisted routes keep their default
+ * max-in-flight       requests outstanding before arrivals are dropped (5000)
+ * seed                seeds the mock roster and the request sequence  (42)
+ * employees           mock roster size                                (1000)
+ * rate-limit          mock.rate-limit.mode of the server              (off)
+ * jvm-args, server-args, api-args   extra space-separated arguments for the child JVMs and applications
+ * </pre>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "100"));
+        Duration measurement = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+        long seed = Long.getLong("loadtest.seed", 42);
+        LoadProfile profile = profile(rate, measurement);
+        Path logDir = Path.of(System.getProperty("loadtest.log-dir", "build/loadtest"));
+        List<String> jvmArgs = arguments("loadtest.jvm-args");
+
+        int serverPort = freePort();
+        int apiPort = freePort();
+        List<String> serverArgs = new ArrayList<>(List.of(
+                "--server.port=" + serverPort,
+                "--mock.employees.max=" + Integer.getInteger("loadtest.employees", 1000),
+                "--mock.employees.seed=" + seed,
+                "--mock.rate-limit.mode=" + System.getProperty("loadtest.rate-limit", "off"),
+                "--logging.level.root=WARN",
+                "--logging.level.com.reliaquest=WARN"));
+        serverArgs.addAll(arguments("loadtest.server-args"));
+        List<String> apiArgs = new ArrayList<>(List.of(
+                "--server.port=" + apiPort,
+                "--custom.api.server-endpoint=http://localhost:" + serverPort,
+                "--logging.level.root=WARN",
+                "--logging.level.com.reliaquest=WARN"));
+        apiArgs.addAll(arguments("loadtest.api-args"));
+
+        try (ApplicationProcess server = ApplicationProcess.start(
+                        "server",
+                        required("loadtest.server-classpath"),
+                        "com.reliaquest.server.ServerApplication",
+                        jvmArgs,
+                        serverArgs,
+                        logDir,
+                        URI.create("http://localhost:%d/api/v1/employee/00000000-0000-0000-0000-000000000000"
+                                .formatted(serverPort)));
+                ApplicationProcess api = ApplicationProcess.start(
+                        "api",
+                        required("loadtest.api-classpath"),
+                        "com.reliaquest.api.ApiApplication",
+                        jvmArgs,
+                        apiArgs,
+                        logDir,
+                        URI.create("http://localhost:%d/actuator/health".formatted(apiPort)))) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            LoadDriver driver = new LoadDriver(
+                    client,
+                    URI.create("http://localhost:" + apiPort),
+                    mix(),
+                    Integer.getInteger("loadtest.max-in-flight", 5000),
+                    seed);
+            driver.prime();
+            if (!warmup.isZero()) {
+                System.out.printf("Warming up for %s at %.1f req/s%n", warmup, rate);
+                driver.run(LoadProfile.constant(rate), warmup);
+            }
+            System.out.printf(
+                    "Measuring %s of %s load%n", measurement, System.getProperty("loadtest.profile", "constant"));
+            String report = report(driver.run(profile, measurement), measurement);
+            System.out.print(report);
+            String reportPath = System.getProperty("loadtest.report");
+            if (reportPath != null) {
+                Files.createDirectories(Path.of(reportPath).toAbsolutePath().getParent());
+                Files.writeString(Path.of(reportPath), report);
+            }
+        }
+    }
+
+    private static LoadProfile profile(double rate, Duration measurement) {
+        String profile = System.getProperty("loadtest.profile", "constant");
+        return switch (profile) {
+            case "constant" -> LoadProfile.constant(rate);
+            case "ramp" -> LoadProfile.ramp(
+                    Double.parseDouble(System.getProperty("loadtest.start-rate", "10")), rate, measurement);
+            case "burst" -> LoadProfile.burst(
+                    rate,
+                    Double.parseDouble(System.getProperty("loadtest.burst-rate", Double.toString(rate * 5))),
+                    Duration.ofSeconds(Long.getLong("loadtest.burst-seconds", 2)),
+                    Duration.ofSeconds(Long.getLong("loadtest.burst-every-seconds", 10)));
+            default -> throw new IllegalArgumentException("Unknown loadtest.profile: " + profile);
+        };
+    }
+
+    private static Map<Endpoint, Integer> mix() {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            mix.put(endpoint, endpoint.defaultWeight);
+        }
+        for (String entry : arguments("loadtest.mix", ",")) {
+            String[] routeAndWeight = entry.split("=", 2);
+            if (routeAndWeight.length != 2) {
+                throw new IllegalArgumentException("Expected route=weight in loadtest.mix, got: " + entry);
+            }
+            mix.put(Endpoint.ofRoute(routeAndWeight[0].trim()), Integer.parseInt(routeAndWeight[1].trim()));
+        }
+        mix.values().removeIf(weight -> weight <= 0);
+        return mix;
+    }
+
+    private static String report(Map<Endpoint, EndpointStats> stats, Duration measurement) {
+        StringWriter out = new StringWriter();
+        PrintWriter writer = new PrintWriter(out);
+        writer.printf(
+                "%n%-38s %9s %9s %9s %9s %9s %9s %9s %8s %8s %8s%n",
+                "endpoint",
+                "requests",
+                "req/s",
+                "p50 ms",
+                "p90 ms",
+                "p99 ms",
+                "p99.9 ms",
+                "max ms",
+                "errors",
+                "429s",
+                "dropped");
+        Map<String, EndpointStats> rows = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> rows.put(endpoint.route, endpointStats));
+        EndpointStats total = new EndpointStats();
+        stats.values().forEach(endpointStats -> {
+            total.latencies.add(endpointStats.latencies);
+            total.errors.add(endpointStats.errors.sum());
+            total.throttled.add(endpointStats.throttled.sum());
+            total.dropped.add(endpointStats.dropped.sum());
+        });
+        rows.put("total", total);
+        double seconds = measurement.toNanos() / 1e9;
+        rows.forEach((route, row) -> {
+            Histogram latencies = row.latencies;
+            long requests = latencies.getTotalCount();
+            writer.printf(
+                    "%-38s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7.2f%% %7.2f%% %8d%n",
+                    route,
+                    requests,
+                    requests / seconds,
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()),
+                    percent(row.errors.sum(), requests),
+                    percent(row.throttled.sum(), requests),
+                    row.dropped.sum());
+        });
+        writer.flush();
+        return out.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static double percent(long count, long total) {
+        return total == 0 ? 0 : 100.0 * count / total;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String required(String property) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(property + " is not set; run through ./gradlew loadtest:loadTest");
+        }
+        return value;
+    }
+
+    private static List<String> arguments(String property) {
+        return arguments(property, " ");
+    }
+
+    private static List<String> arguments(String property, String separator) {
+        String value = System.getProperty(property, "");
+        return Arrays.stream(value.split(separator))
+                .map(String::trim)
+                .filter(argument -> !argument.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Builds the seed roster in fixed-size chunks on the common fork-join pool. The chunk generators are split from one
+ * {@link SplittableRandom} in chunk order before any work starts, and every value of a chunk is drawn from its own
+ * generator, so the same seed, locale, size and profile always give the same employees in the same order regardless
+ * of thread count or scheduling.
+ */
+class MockEmployeeGenerator {
+
+    static final int CHUNK_SIZE = 4096;
+
+    static final int MIN_SALARY = 30000;
+    static final int MAX_SALARY = 500000;
+    static final int MIN_AGE = 16;
+    static final int MAX_AGE = 70;
+
+    private final Locale locale;
+    private final long seed;
+    private final Profile profile;
+
+    MockEmployeeGenerator(Locale locale, long seed, Profile profile) {
+        this.locale = locale;
+        this.seed = seed;
+        this.profile = profile;
+    }
+
+    List<MockEmployee> generate(int count) {
+        final var root = new SplittableRandom(seed);
+        final var titles = titlePool(root.split());
+        final var chunkCount = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var chunkRandoms = new SplittableRandom[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            chunkRandoms[chunk] = root.split();
+        }
+        final var chunks = IntStream.range(0, chunkCount)
+                .parallel()
+                .mapToObj(chunk ->
+                        generateChunk(chunkRandoms[chunk], Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE), titles))
+                .toList();
+        final var employees = new ArrayList<MockEmployee>(count);
+        chunks.forEach(employees::addAll);
+        return employees;
+    }
+
+    private List<MockEmployee> generateChunk(SplittableRandom random, int size, List<String> titles) {
+        final var faker = new Faker(locale, new Random(random.nextLong()));
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            final var name = !employees.isEmpty() && random.nextDouble() < profile.duplicateNameRate()
+                    ? employees.get(random.nextInt(employees.size())).getName()
+                    : faker.name().fullName();
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(name)
+                    .salary(salary(random))
+                    .age(random.nextInt(MIN_AGE, MAX_AGE))
+                    .title(titles.isEmpty() ? faker.job().title() : titles.get(random.nextInt(titles.size())))
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase()))
+                    .build());
+        }
+        return employees;
+    }
+
+    /** Uniform for a skew of 1; larger skews pile salaries up towards the bottom of the range with a long upper tail. */
+    private int salary(SplittableRandom random) {
+        return MIN_SALARY + (int) ((MAX_SALARY - MIN_SALARY) * Math.pow(random.nextDouble(), profile.salarySkew()));
+    }
+
+    private List<String> titlePool(SplittableRandom random) {
+        if (profile.titleCardinality() <= 0) {
+            return List.of();
+        }
+        final var faker = new Faker(locale, new Random(random.nextLong()));
+        return IntStream.range(0, profile.titleCardinality())
+                .mapToObj(ignored -> faker.job().title())
+                .toList();
+    }
+
+    /** A version 4 UUID drawn from the chunk's generator rather than the shared secure random. */
+    private static UUID randomUuid(SplittableRandom random) {
+        final var mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificant = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Shape of the generated data.
+     *
+     * @param salarySkew exponent applied to a uniform draw over the salary range; 1 is uniform
+     * @param duplicateNameRate chance that an employee reuses the name of an earlier one from its chunk
+     * @param titleCardinality size of the job title pool (at most that many distinct titles), or 0 for a fresh title per employee
+     */
+    record Profile(double salarySkew, double duplicateNameRate, int titleCardinality) {
+
+        Profile {
+            if (salarySkew <= 0 || duplicateNameRate < 0 || duplicateNameRate > 1 || titleCardinality < 0) {
+                throw new IllegalArgumentException(
+                        "Invalid mock employee profile: salarySkew=%s, duplicateNameRate=%s, titleCardinality=%s"
+                                .formatted(salarySkew, duplicateNameRate, titleCardinality));
+            }
+        }
+    }
+}
@@ -1,18 +1,16 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeStore;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.reliaquest.server.web.TokenBucketRequestLimitInterceptor;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,35 +23,92 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final int DEBUG_LOGGED_EMPLOYEES = 1000;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Maps mock.employees.snapshot.path when that file exists, so a restart keeps the previous roster and its CRUD
+     * changes; otherwise generates a new roster. Without mock.employees.seed a random seed is drawn and logged so the
+     * run can be reproduced.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MockEmployeeStore mockEmployeeStore(
+            @Value("${mock.employees.snapshot.path:}") String snapshotPath,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.profile.salary-skew:1.0}") double salarySkew,
+            @Value("${mock.employees.profile.duplicate-name-rate:0.0}") double duplicateNameRate,
+            @Value("${mock.employees.profile.title-cardinality:0}") int titleCardinality)
+            throws IOException {
+        if (!snapshotPath.isBlank() && Files.exists(Path.of(snapshotPath))) {
+            final var started = System.nanoTime();
+            final var mockEmployeeStore = MockEmployeeStore.open(Path.of(snapshotPath));
+            log.info(
+                    "Mapped {} employees from {} in {} ms",
+                    mockEmployeeStore.size(),
+                    snapshotPath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return mockEmployeeStore;
+        }
+        final var effectiveSeed =
+                seed != null ? seed : RandomGenerator.getDefault().nextLong();
+        final var profile = new MockEmployeeGenerator.Profile(salarySkew, duplicateNameRate, titleCardinality);
+        final var started = System.nanoTime();
+        final var mockEmployees =
+                new MockEmployeeGenerator(Locale.getDefault(), effectiveSeed, profile).generate(maxEmployees);
+        log.info(
+                "Generated {} employees in {} ms with seed {} and {}",
+                mockEmployees.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                effectiveSeed,
+                profile);
+        if (log.isDebugEnabled() && mockEmployees.size() <= DEBUG_LOGGED_EMPLOYEES) {
+            mockEmployees.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+        return new MockEmployeeStore(mockEmployees);
     }
 
+    @Value("${mock.rate-limit.mode:random}")
+    private String rateLimitMode = "random";
+
+    @Value("${mock.rate-limit.capacity:10}")
+    private long rateLimitCapacity = 10;
+
+    @Value("${mock.rate-limit.refill-per-second:5}")
+    private double rateLimitRefillPerSecond = 5;
+
+    @Value("${mock.rate-limit.client-header:X-Client-Id}")
+    private String rateLimitClientHeader = "X-Client-Id";
+
+    @Value("${mock.rate-limit.max-clients:10000}")
+    private int rateLimitMaxClients = 10000;
+
+    /*
+     * random keeps the original behaviour of one global limit drawn at startup; token-bucket limits each client to a
+     * configured rate so load test numbers are reproducible; off disables limiting.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        switch (rateLimitMode) {
+            case "random" -> registry.addInterceptor(new RandomRequestLimitInterceptor());
+            case "token-bucket" -> {
+                log.info(
+                        "Limiting each client to {} requests/s with bursts of {}",
+                        rateLimitRefillPerSecond,
+                        rateLimitCapacity);
+                registry.addInterceptor(new TokenBucketRequestLimitInterceptor(
+                        rateLimitCapacity,
+                        rateLimitRefillPerSecond,
+                        rateLimitClientHeader,
+                        rateLimitMaxClients,
+                        System::nanoTime));
+            }
+            case "off" -> log.info("Request rate limiting is off");
+            default -> throw new IllegalStateException("Unknown mock.rate-limit.mode: " + rateLimitMode);
+        }
     }
 }
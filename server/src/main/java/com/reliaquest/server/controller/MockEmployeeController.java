@@ -1,7 +1,10 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.server.model.BatchCreateMockEmployeeInput;
+import com.reliaquest.server.model.BatchDeleteMockEmployeeInput;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeCursor;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,11 +28,29 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final MockEmployeeService mockEmployeeService;
 
+    /**
+     * Without {@code limit} or {@code cursor} the whole roster is returned. Otherwise one page, in id order, of at most
+     * {@code limit} employees: start with {@code partition}/{@code partitions} (default the single partition) and
+     * follow {@code nextCursor} until it is absent. Each partition covers a disjoint id range and can be paged in
+     * parallel with the others.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public Response<List<MockEmployee>> getEmployees(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "partition", defaultValue = "0") int partition,
+            @RequestParam(name = "partitions", defaultValue = "1") int partitions) {
+        if (limit == null && cursor == null) {
+            return Response.handledWith(mockEmployeeService.getMockEmployees());
+        }
+        final var page = mockEmployeeService.getPage(
+                cursor == null ? EmployeeCursor.start(partition, partitions) : EmployeeCursor.decode(cursor),
+                limit == null ? DEFAULT_PAGE_SIZE : limit);
+        return Response.page(page.employees(), page.nextCursor());
     }
 
     @GetMapping("/{id}")
@@ -48,4 +70,22 @@ public class MockEmployeeController {
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    /**
+     * Creates up to {@value BatchCreateMockEmployeeInput#MAX_BATCH_SIZE} employees in one request; the created
+     * employees are returned in input order.
+     */
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody BatchCreateMockEmployeeInput input) {
+        return Response.handledWith(mockEmployeeService.createAll(input.getEmployees()));
+    }
+
+    /**
+     * Deletes up to {@value BatchCreateMockEmployeeInput#MAX_BATCH_SIZE} employees by name in one request; each
+     * result, in input order, says whether that name matched an employee.
+     */
+    @DeleteMapping("/batch")
+    public Response<List<Boolean>> deleteEmployees(@Valid @RequestBody BatchDeleteMockEmployeeInput input) {
+        return Response.handledWith(mockEmployeeService.deleteAll(input.getEmployees()));
+    }
 }
@@ -1,8 +1,10 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.Response;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -10,6 +12,22 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 @ControllerAdvice
 public class MockEmployeeControllerAdvice {
 
+    @ExceptionHandler
+    protected ResponseEntity<?> handleIllegalArgument(IllegalArgumentException ex) {
+        log.debug("Rejected web request: {}", ex.getMessage());
+        return ResponseEntity.badRequest().body(Response.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<?> handleInvalidInput(MethodArgumentNotValidException ex) {
+        final var error = ex.getBindingResult().getFieldErrors().stream()
+                .map(fieldError -> fieldError.getField() + " " + fieldError.getDefaultMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        log.debug("Rejected invalid input: {}", error);
+        return ResponseEntity.badRequest().body(Response.error(error));
+    }
+
     @ExceptionHandler
     protected ResponseEntity<?> handleException(Throwable ex) {
         log.error("Error handling web request.", ex);
@@ -0,0 +1,16 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BatchDeleteMockEmployeeInput {
+
+    @NotEmpty
+    @Size(max = BatchCreateMockEmployeeInput.MAX_BATCH_SIZE)
+    private List<@Valid @NotNull DeleteMockEmployeeInput> employees;
+}
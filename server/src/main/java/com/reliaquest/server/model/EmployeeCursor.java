@@ -0,0 +1,63 @@
+package com.reliaquest.server.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * Keyset position in the id-ordered roster. The id space is split into {@code partitions} contiguous ranges on the
+ * high bits of the id so independent cursors can page disjoint slices concurrently; {@code after} is the last id
+ * already returned in this partition, or null before the first page. Clients only see the encoded form.
+ */
+public record EmployeeCursor(int partition, int partitions, UUID after) {
+
+    public static final int MAX_PARTITIONS = 64;
+
+    private static final String SEPARATOR = ":";
+
+    public EmployeeCursor {
+        if (partitions < 1 || partitions > MAX_PARTITIONS || partition < 0 || partition >= partitions) {
+            throw new IllegalArgumentException("Invalid partition %d of %d".formatted(partition, partitions));
+        }
+    }
+
+    public static EmployeeCursor start(int partition, int partitions) {
+        return new EmployeeCursor(partition, partitions, null);
+    }
+
+    public static EmployeeCursor decode(@NonNull String cursor) {
+        try {
+            final var parts =
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+            return new EmployeeCursor(
+                    Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, ex);
+        }
+    }
+
+    public String encode() {
+        final var raw = partition + SEPARATOR + partitions + SEPARATOR + after;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public EmployeeCursor advanceTo(@NonNull UUID lastReturned) {
+        return new EmployeeCursor(partition, partitions, lastReturned);
+    }
+
+    /** Lowest id of this partition's range; ids are ordered as {@link UUID#compareTo} orders them. */
+    public UUID lowerBound() {
+        return new UUID(Long.MIN_VALUE + partition * step(), Long.MIN_VALUE);
+    }
+
+    /** Lowest id of the next partition's range, or null for the last partition. */
+    public UUID upperBound() {
+        return partition == partitions - 1 ? null : new UUID(Long.MIN_VALUE + (partition + 1) * step(), Long.MIN_VALUE);
+    }
+
+    /** Width of one partition over the 2^64 values of the high id bits. */
+    private long step() {
+        return partitions == 1 ? 0 : Long.divideUnsigned(-1L, partitions) + 1;
+    }
+}
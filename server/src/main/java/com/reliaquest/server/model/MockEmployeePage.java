@@ -0,0 +1,5 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+public record MockEmployeePage(List<MockEmployee> employees, String nextCursor) {}
@@ -3,16 +3,18 @@ package com.reliaquest.server.service;
 import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeCursor;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -22,37 +24,82 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    @Value("${mock.employees.page-size.max:1000}")
+    private int maxPageSize = 1000;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.snapshot();
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
+    }
+
+    /**
+     * Up to {@code limit} employees of the cursor's partition that sort after its position, in id order, with the
+     * cursor for the following page or null when the partition is exhausted.
+     */
+    public MockEmployeePage getPage(@NonNull EmployeeCursor cursor, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and %d".formatted(maxPageSize));
+        }
+        final var employees = cursor.after() == null
+                ? mockEmployeeStore.iterator(cursor.lowerBound(), true)
+                : mockEmployeeStore.iterator(cursor.after(), false);
+        final var upperBound = cursor.upperBound();
+        final var page = new ArrayList<MockEmployee>(Math.min(limit, 256));
+        while (employees.hasNext()) {
+            final var mockEmployee = employees.next();
+            if (upperBound != null && mockEmployee.getId().compareTo(upperBound) >= 0) {
+                break;
+            }
+            if (page.size() == limit) {
+                final var nextCursor = cursor.advanceTo(page.get(limit - 1).getId());
+                return new MockEmployeePage(page, nextCursor.encode());
+            }
+            page.add(mockEmployee);
+        }
+        return new MockEmployeePage(page, null);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = toMockEmployee(input);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /** Creates every input in one store write; results are in input order. */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = inputs.stream().map(this::toMockEmployee).toList();
+        mockEmployeeStore.addAll(mockEmployees);
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
-        }
+        final var mockEmployee = mockEmployeeStore.removeByName(input.getName());
+        mockEmployee.ifPresent(removed -> log.debug("Removed employee: {}", removed));
+        return mockEmployee.isPresent();
+    }
 
-        return false;
+    /** Deletes by name in one store write; each result says whether that input removed an employee. */
+    public List<Boolean> deleteAll(@NonNull List<DeleteMockEmployeeInput> inputs) {
+        final var removed = mockEmployeeStore.removeAllByName(
+                inputs.stream().map(DeleteMockEmployeeInput::getName).toList());
+        log.debug(
+                "Removed {} of {} employees",
+                removed.stream().filter(Optional::isPresent).count(),
+                inputs.size());
+        return removed.stream().map(Optional::isPresent).toList();
+    }
+
+    private MockEmployee toMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                        faker.twitter().userName().toLowerCase()),
+                input);
     }
 }
@@ -0,0 +1,287 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import lombok.NonNull;
+
+/**
+ * Read-only, memory-mapped roster written by {@link #write}. Opening only maps the file; a record is decoded when it
+ * is looked up or iterated over.
+ *
+ * <p>Layout, big-endian:
+ *
+ * <pre>
+ * header  magic int, version int, count long, dataOffset long
+ * index   count x (id msb long, id lsb long, record offset long), ascending by id
+ * data    per record: salary int, age int, then name, title, email as (byte length int, UTF-8 bytes);
+ *         NULL_INT for a null number, -1 length for a null string
+ * </pre>
+ *
+ * Both sections are mapped in segments below 2 GB; index segments hold whole entries and the writer pads so that no
+ * record crosses a data segment boundary.
+ */
+final class MockEmployeeSnapshotFile {
+
+    static final int MAGIC = 0x4D454D50;
+    static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 24;
+    private static final int INDEX_ENTRY_BYTES = 24;
+    private static final long INDEX_SEGMENT_BYTES = (long) INDEX_ENTRY_BYTES * (1 << 25);
+    private static final long DATA_SEGMENT_BYTES = 1L << 30;
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    static final MockEmployeeSnapshotFile EMPTY = new MockEmployeeSnapshotFile(0, new ByteBuffer[0], new ByteBuffer[0]);
+
+    private final long count;
+    private final ByteBuffer[] indexSegments;
+    private final ByteBuffer[] dataSegments;
+
+    private MockEmployeeSnapshotFile(long count, ByteBuffer[] indexSegments, ByteBuffer[] dataSegments) {
+        this.count = count;
+        this.indexSegments = indexSegments;
+        this.dataSegments = dataSegments;
+    }
+
+    static MockEmployeeSnapshotFile open(@NonNull Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not a version %d employee snapshot: %s".formatted(VERSION, path));
+            }
+            final var count = header.getLong();
+            final var dataOffset = header.getLong();
+            final var indexBytes = count * INDEX_ENTRY_BYTES;
+            if (HEADER_BYTES + indexBytes != dataOffset || dataOffset > channel.size()) {
+                throw new IOException("Corrupt employee snapshot: " + path);
+            }
+            return new MockEmployeeSnapshotFile(
+                    count,
+                    map(channel, HEADER_BYTES, indexBytes, INDEX_SEGMENT_BYTES),
+                    map(channel, dataOffset, channel.size() - dataOffset, DATA_SEGMENT_BYTES));
+        }
+    }
+
+    /**
+     * Writes {@code count} employees, which must come in ascending id order, to a temporary file next to {@code path}
+     * and then moves it into place, so a reader never sees a partial file. The temporary file is forced to disk before
+     * the move, so a crash cannot leave a truncated file under {@code path} either.
+     *
+     * @throws IllegalStateException when {@code employees} yields fewer or more than {@code count} employees
+     */
+    static void write(@NonNull Path path, long count, @NonNull Iterator<MockEmployee> employees) throws IOException {
+        final var directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        final var temp = Files.createTempFile(directory, path.getFileName() + ".", ".tmp");
+        try {
+            final var dataOffset = HEADER_BYTES + count * INDEX_ENTRY_BYTES;
+            try (final var index = output(temp, 0);
+                    final var data = output(temp, dataOffset)) {
+                index.writeInt(MAGIC);
+                index.writeInt(VERSION);
+                index.writeLong(count);
+                index.writeLong(dataOffset);
+                writeRecords(count, employees, index, data);
+            }
+            try (final var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    long size() {
+        return count;
+    }
+
+    MockEmployee find(UUID id) {
+        final var position = search(id);
+        return position >= 0 ? read(position) : null;
+    }
+
+    boolean contains(UUID id) {
+        return search(id) >= 0;
+    }
+
+    /** Records with {@code id >= from} (or {@code > from} when not inclusive), in id order, decoded as they are reached. */
+    Iterator<MockEmployee> iterator(UUID from, boolean inclusive) {
+        var start = from == null ? 0 : search(from);
+        if (start < 0) {
+            start = -start - 1;
+        } else if (!inclusive) {
+            start++;
+        }
+        final var first = start;
+        return new Iterator<>() {
+            private long position = first;
+
+            @Override
+            public boolean hasNext() {
+                return position < count;
+            }
+
+            @Override
+            public MockEmployee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return read(position++);
+            }
+        };
+    }
+
+    /** Decodes only ids and names, for building a name index without materializing records. */
+    void forEachName(BiConsumer<UUID, String> consumer) {
+        for (long position = 0; position < count; position++) {
+            final var record = record(position);
+            record.position(record.position() + 2 * Integer.BYTES);
+            consumer.accept(idAt(position), readString(record));
+        }
+    }
+
+    /** Position of {@code id}, or {@code -(insertion point) - 1} when absent. */
+    private long search(UUID id) {
+        long low = 0;
+        long high = count - 1;
+        while (low <= high) {
+            final var mid = (low + high) >>> 1;
+            final var comparison = idAt(mid).compareTo(id);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private UUID idAt(long position) {
+        final var offset = position * INDEX_ENTRY_BYTES;
+        final var segment = indexSegments[(int) (offset / INDEX_SEGMENT_BYTES)];
+        final var at = (int) (offset % INDEX_SEGMENT_BYTES);
+        return new UUID(segment.getLong(at), segment.getLong(at + Long.BYTES));
+    }
+
+    private ByteBuffer record(long position) {
+        final var offset = position * INDEX_ENTRY_BYTES;
+        final var recordOffset = indexSegments[(int) (offset / INDEX_SEGMENT_BYTES)].getLong(
+                (int) (offset % INDEX_SEGMENT_BYTES) + 2 * Long.BYTES);
+        return dataSegments[(int) (recordOffset / DATA_SEGMENT_BYTES)]
+                .duplicate()
+                .position((int) (recordOffset % DATA_SEGMENT_BYTES));
+    }
+
+    private MockEmployee read(long position) {
+        final var record = record(position);
+        final var salary = record.getInt();
+        final var age = record.getInt();
+        return MockEmployee.builder()
+                .id(idAt(position))
+                .salary(salary == NULL_INT ? null : salary)
+                .age(age == NULL_INT ? null : age)
+                .name(readString(record))
+                .title(readString(record))
+                .email(readString(record))
+                .build();
+    }
+
+    private static String readString(ByteBuffer record) {
+        final var length = record.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final var bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeRecords(
+            long count, Iterator<MockEmployee> employees, DataOutputStream index, DataOutputStream data)
+            throws IOException {
+        long relative = 0;
+        for (long written = 0; written < count; written++) {
+            if (!employees.hasNext()) {
+                throw new IllegalStateException("Expected %d employees, got %d".formatted(count, written));
+            }
+            final var employee = employees.next();
+            final var record = encode(employee);
+            if (relative % DATA_SEGMENT_BYTES + record.length > DATA_SEGMENT_BYTES) {
+                final var padding = DATA_SEGMENT_BYTES - relative % DATA_SEGMENT_BYTES;
+                data.write(new byte[(int) padding]);
+                relative += padding;
+            }
+            index.writeLong(employee.getId().getMostSignificantBits());
+            index.writeLong(employee.getId().getLeastSignificantBits());
+            index.writeLong(relative);
+            data.write(record);
+            relative += record.length;
+        }
+        if (employees.hasNext()) {
+            throw new IllegalStateException("Expected %d employees, got more".formatted(count));
+        }
+    }
+
+    /** A buffered stream writing {@code file} from {@code position} on, over its own channel. */
+    private static DataOutputStream output(Path file, long position) throws IOException {
+        final var channel = FileChannel.open(file, StandardOpenOption.WRITE).position(position);
+        return new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+    }
+
+    private static byte[] encode(MockEmployee employee) {
+        final var name = bytes(employee.getName());
+        final var title = bytes(employee.getTitle());
+        final var email = bytes(employee.getEmail());
+        final var buffer = ByteBuffer.allocate(2 * Integer.BYTES + length(name) + length(title) + length(email));
+        buffer.putInt(employee.getSalary() == null ? NULL_INT : employee.getSalary());
+        buffer.putInt(employee.getAge() == null ? NULL_INT : employee.getAge());
+        put(buffer, name);
+        put(buffer, title);
+        put(buffer, email);
+        return buffer.array();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void put(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length).put(value);
+        }
+    }
+
+    private static ByteBuffer[] map(FileChannel channel, long start, long length, long segmentBytes)
+            throws IOException {
+        final var segments = new ByteBuffer[(int) ((length + segmentBytes - 1) / segmentBytes)];
+        for (int i = 0; i < segments.length; i++) {
+            final var offset = i * segmentBytes;
+            segments[i] =
+                    channel.map(FileChannel.MapMode.READ_ONLY, start + offset, Math.min(segmentBytes, length - offset));
+        }
+        return segments;
+    }
+}
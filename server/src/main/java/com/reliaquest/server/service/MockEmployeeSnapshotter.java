@@ -0,0 +1,45 @@
+package com.reliaquest.server.service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dumps the store to {@code mock.employees.snapshot.path} on shutdown, CRUD changes included, so that the next start
+ * maps it instead of generating a new roster.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockEmployeeSnapshotter {
+
+    private final MockEmployeeStore mockEmployeeStore;
+
+    @Value("${mock.employees.snapshot.path:}")
+    private String snapshotPath = "";
+
+    @Value("${mock.employees.snapshot.save-on-shutdown:true}")
+    private boolean saveOnShutdown = true;
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        if (snapshotPath.isBlank() || !saveOnShutdown) {
+            return;
+        }
+        final var started = System.nanoTime();
+        try {
+            mockEmployeeStore.dump(Path.of(snapshotPath));
+            log.info(
+                    "Saved {} employees to {} in {} ms",
+                    mockEmployeeStore.size(),
+                    snapshotPath,
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException ex) {
+            log.error("Failed to save employee snapshot to {}", snapshotPath, ex);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Employees keyed by id, in id order, with a case-folded name index for delete-by-name. The roster is a read-only
+ * base, either empty or memory-mapped from a snapshot file, overlaid by the employees written since and the set of
+ * base ids deleted since. Written employees are held twice: in a hash map so lookups by id are O(1), and in a sorted
+ * map so cursor pages can start at any id and merge with the base in id order. Lookups by id and iteration are
+ * lock-free. Writes hold the write lock
+ * so the overlay and the name index change together, and full-roster reads and dumps hold the read lock so they see a
+ * single point in time. Base names are only indexed once the first delete-by-name needs them.
+ */
+@Slf4j
+public class MockEmployeeStore {
+
+    private final MockEmployeeSnapshotFile base;
+
+    private final Map<UUID, MockEmployee> writtenById = new ConcurrentHashMap<>();
+
+    /** The same entries as {@link #writtenById}, in id order, for iteration. Only changed under the write lock. */
+    private final ConcurrentSkipListMap<UUID, MockEmployee> written = new ConcurrentSkipListMap<>();
+
+    private final Set<UUID> deletedFromBase = ConcurrentHashMap.newKeySet();
+
+    /** Folded name to the ids carrying it, in the order they were indexed. Only touched under the write lock. */
+    private final Map<String, Set<UUID>> idsByName = new HashMap<>();
+
+    private boolean baseNamesIndexed;
+
+    private volatile long size;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MockEmployeeStore(List<MockEmployee> mockEmployees) {
+        this(MockEmployeeSnapshotFile.EMPTY);
+        addAll(mockEmployees);
+    }
+
+    private MockEmployeeStore(MockEmployeeSnapshotFile base) {
+        this.base = base;
+        this.size = base.size();
+        this.baseNamesIndexed = base.size() == 0;
+    }
+
+    /** A store whose initial roster is the snapshot at {@code path}; nothing is decoded until it is read. */
+    public static MockEmployeeStore open(@NonNull Path path) throws IOException {
+        return new MockEmployeeStore(MockEmployeeSnapshotFile.open(path));
+    }
+
+    /** Writes the current roster to {@code path} in the format {@link #open} maps. Writes wait until it is done. */
+    public void dump(@NonNull Path path) throws IOException {
+        lock.readLock().lock();
+        try {
+            MockEmployeeSnapshotFile.write(path, size, iterator(null, true));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        final var mockEmployee = writtenById.get(id);
+        if (mockEmployee != null) {
+            return Optional.of(mockEmployee);
+        }
+        return deletedFromBase.contains(id) ? Optional.empty() : Optional.ofNullable(base.find(id));
+    }
+
+    /**
+     * Employees in id order from {@code from} on, or from the start when it is null. Entries written while a caller
+     * iterates may or may not be seen.
+     */
+    public Iterator<MockEmployee> iterator(UUID from, boolean inclusive) {
+        final var baseEmployees = base.iterator(from, inclusive);
+        final var writtenEmployees = (from == null ? written : written.tailMap(from, inclusive))
+                .values()
+                .iterator();
+        return new Iterator<>() {
+            private MockEmployee nextBase = advanceBase();
+            private MockEmployee nextWritten = writtenEmployees.hasNext() ? writtenEmployees.next() : null;
+
+            @Override
+            public boolean hasNext() {
+                return nextBase != null || nextWritten != null;
+            }
+
+            @Override
+            public MockEmployee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final var comparison = nextBase == null
+                        ? 1
+                        : nextWritten == null ? -1 : nextBase.getId().compareTo(nextWritten.getId());
+                if (comparison < 0) {
+                    final var result = nextBase;
+                    nextBase = advanceBase();
+                    return result;
+                }
+                if (comparison == 0) {
+                    nextBase = advanceBase();
+                }
+                final var result = nextWritten;
+                nextWritten = writtenEmployees.hasNext() ? writtenEmployees.next() : null;
+                return result;
+            }
+
+            private MockEmployee advanceBase() {
+                while (baseEmployees.hasNext()) {
+                    final var candidate = baseEmployees.next();
+                    if (!deletedFromBase.contains(candidate.getId())) {
+                        return candidate;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    public List<MockEmployee> snapshot() {
+        lock.readLock().lock();
+        try {
+            final var employees = new ArrayList<MockEmployee>((int) Math.min(size, Integer.MAX_VALUE));
+            iterator(null, true).forEachRemaining(employees::add);
+            return employees;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        addAll(List.of(mockEmployee));
+    }
+
+    /** Adds every employee under a single write lock. */
+    public void addAll(@NonNull List<MockEmployee> mockEmployees) {
+        lock.writeLock().lock();
+        try {
+            mockEmployees.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Removes an employee whose name equals {@code name} ignoring case; the earliest indexed when there are several. */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        return removeAllByName(List.of(name)).get(0);
+    }
+
+    /** {@link #removeByName} for each name in turn under a single write lock; results are in input order. */
+    public List<Optional<MockEmployee>> removeAllByName(@NonNull List<String> names) {
+        lock.writeLock().lock();
+        try {
+            indexBaseNames();
+            return names.stream().map(this::remove).toList();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(MockEmployee mockEmployee) {
+        if (mockEmployee.getId() == null) {
+            log.warn("Skipped employee without id: {}", mockEmployee);
+            return;
+        }
+        final var replaced = findById(mockEmployee.getId());
+        replaced.ifPresent(this::unindexName);
+        writtenById.put(mockEmployee.getId(), mockEmployee);
+        written.put(mockEmployee.getId(), mockEmployee);
+        indexName(mockEmployee.getId(), mockEmployee.getName());
+        if (replaced.isEmpty()) {
+            size++;
+        }
+    }
+
+    private Optional<MockEmployee> remove(String name) {
+        final var ids = name == null ? null : idsByName.get(fold(name));
+        if (ids == null || ids.isEmpty()) {
+            return Optional.empty();
+        }
+        final var id = ids.iterator().next();
+        final var removed = findById(id).orElseThrow();
+        if (base.contains(id)) {
+            deletedFromBase.add(id);
+        }
+        writtenById.remove(id);
+        written.remove(id);
+        unindexName(removed);
+        size--;
+        return Optional.of(removed);
+    }
+
+    private void indexBaseNames() {
+        if (baseNamesIndexed) {
+            return;
+        }
+        final var started = System.nanoTime();
+        base.forEachName((id, name) -> {
+            if (!deletedFromBase.contains(id) && !writtenById.containsKey(id)) {
+                indexName(id, name);
+            }
+        });
+        baseNamesIndexed = true;
+        log.info(
+                "Indexed names of {} mapped employees in {} ms",
+                base.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void indexName(UUID id, String name) {
+        if (name != null) {
+            idsByName
+                    .computeIfAbsent(fold(name), folded -> new LinkedHashSet<>())
+                    .add(id);
+        }
+    }
+
+    private void unindexName(MockEmployee mockEmployee) {
+        if (mockEmployee.getName() == null) {
+            return;
+        }
+        final var name = fold(mockEmployee.getName());
+        final var ids = idsByName.get(name);
+        if (ids != null) {
+            ids.remove(mockEmployee.getId());
+            if (ids.isEmpty()) {
+                idsByName.remove(name);
+            }
+        }
+    }
+
+    /** Folds one char at a time so that equal folded names are exactly the pairs {@link String#equalsIgnoreCase} accepts. */
+    static String fold(String name) {
+        final var chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
@@ -2,47 +2,60 @@ package com.reliaquest.server.web;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
-import lombok.Getter;
-import org.springframework.http.HttpStatus;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * One limit shared by all clients: after {@code requestLimit} requests, every request is refused until
+ * {@code backoff} has passed since the last one allowed. The no-arg constructor draws both at random, as the mock
+ * server always has.
+ */
+@Slf4j
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int requestLimit;
+    private final Duration backoff;
+    private final Clock clock;
 
-    private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
+    private final AtomicReference<RequestLimit> state;
+
+    public RandomRequestLimitInterceptor() {
+        this(
+                RandomGenerator.getDefault().nextInt(5, 10),
+                Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90)),
+                Clock.systemUTC());
+        log.info("Limiting to {} requests, then backing off for {}", requestLimit, backoff);
+    }
+
+    public RandomRequestLimitInterceptor(int requestLimit, Duration backoff, Clock clock) {
+        this.requestLimit = requestLimit;
+        this.backoff = backoff;
+        this.clock = clock;
+        this.state = new AtomicReference<>(new RequestLimit(0, clock.instant()));
+    }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                return false;
+        final var now = clock.instant();
+        while (true) {
+            final var current = state.get();
+            if (current.count() >= requestLimit) {
+                final var retryAt = current.lastRequested().plus(backoff);
+                if (now.isBefore(retryAt)) {
+                    return RateLimitHeaders.reject(response, Duration.between(now, retryAt));
+                }
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
-                requestLimit.set(RequestLimit.init());
+            final var next = new RequestLimit(current.count() >= requestLimit ? 1 : current.count() + 1, now);
+            if (state.compareAndSet(current, next)) {
+                return RateLimitHeaders.allow(response, requestLimit - next.count());
             }
-        } else {
-            requestLimit.getAndUpdate(
-                    currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
         }
-
-        return true;
     }
 
-    private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
-        public static RequestLimit init() {
-            return new RequestLimit(0, Instant.now());
-        }
-    }
+    private record RequestLimit(int count, Instant lastRequested) {}
 }
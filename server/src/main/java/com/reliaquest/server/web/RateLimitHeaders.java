@@ -0,0 +1,28 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+/** Headers both request limiters put on every response they pass or reject. */
+final class RateLimitHeaders {
+
+    static final String REMAINING = "X-RateLimit-Remaining";
+
+    private RateLimitHeaders() {}
+
+    static boolean allow(HttpServletResponse response, long remaining) {
+        response.setHeader(REMAINING, Long.toString(Math.max(remaining, 0)));
+        return true;
+    }
+
+    /** Rejects with 429 and a whole-second {@code Retry-After}, rounded up so a client honoring it is not refused again. */
+    static boolean reject(HttpServletResponse response, Duration retryAfter) {
+        final var seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(REMAINING, "0");
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import lombok.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * A token bucket per client, keyed by {@code clientHeader} or, without it, the remote address. Each bucket holds up to
+ * {@code capacity} tokens, refills continuously at {@code refillPerSecond}, and a request takes one token or is refused
+ * with the time until the next one. Bucket state is replaced by compare-and-set, so concurrent requests never block
+ * each other, and since the refill is computed from the supplied clock the same request timeline always gets the same
+ * answers.
+ *
+ * <p>At most {@code maxClients} buckets exist. A client idle for {@code capacity / refillPerSecond} has refilled
+ * completely and holds no state worth keeping, so once the limit is reached its bucket is dropped by a sweep that runs
+ * at most once per such refill period; a new client arriving while every bucket is still in use is refused until the
+ * next sweep is due, which keeps both the memory and the per-request cost bounded.
+ */
+public class TokenBucketRequestLimitInterceptor implements HandlerInterceptor {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final String clientHeader;
+    private final int maxClients;
+    private final long refillNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+
+    /** Buckets held or reserved; reserved before a bucket is inserted so concurrent new clients cannot overshoot. */
+    private final AtomicInteger clients = new AtomicInteger();
+
+    private final AtomicLong nextSweepAt;
+
+    public TokenBucketRequestLimitInterceptor(
+            long capacity,
+            double refillPerSecond,
+            String clientHeader,
+            int maxClients,
+            @NonNull LongSupplier nanoClock) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxClients < 1) {
+            throw new IllegalArgumentException("Invalid token bucket: capacity=%d, refillPerSecond=%s, maxClients=%d"
+                    .formatted(capacity, refillPerSecond, maxClients));
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.clientHeader = clientHeader;
+        this.maxClients = maxClients;
+        this.refillNanos = (long) Math.ceil(capacity / tokensPerNano);
+        this.nanoClock = nanoClock;
+        this.nextSweepAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        final var now = nanoClock.getAsLong();
+        final var bucket = bucketFor(clientKey(request), now);
+        if (bucket == null) {
+            return RateLimitHeaders.reject(response, Duration.ofNanos(Math.max(0, nextSweepAt.get() - now)));
+        }
+        while (true) {
+            final var current = bucket.get();
+            final var tokens = tokensAt(current, now);
+            if (tokens < 1) {
+                return RateLimitHeaders.reject(
+                        response, Duration.ofNanos((long) Math.ceil((1 - tokens) / tokensPerNano)));
+            }
+            final var next = new Bucket(tokens - 1, Math.max(now, current.updatedAt()));
+            if (bucket.compareAndSet(current, next)) {
+                return RateLimitHeaders.allow(response, (long) next.tokens());
+            }
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        final var client = clientHeader == null || clientHeader.isBlank() ? null : request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+
+    /** The client's bucket, or null when it is new and all {@code maxClients} buckets are still in use. */
+    private AtomicReference<Bucket> bucketFor(String client, long now) {
+        final var bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (!reserveClient(now)) {
+            return null;
+        }
+        final var created = new AtomicReference<>(new Bucket(capacity, now));
+        final var existing = buckets.putIfAbsent(client, created);
+        if (existing != null) {
+            clients.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+
+    private boolean reserveClient(long now) {
+        while (true) {
+            final var count = clients.get();
+            if (count >= maxClients) {
+                if (!sweep(now)) {
+                    return false;
+                }
+            } else if (clients.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /** Drops the buckets that have refilled completely, if no other sweep ran within the last refill period. */
+    private boolean sweep(long now) {
+        final var due = nextSweepAt.get();
+        if (now - due < 0 || !nextSweepAt.compareAndSet(due, now + refillNanos)) {
+            return false;
+        }
+        var dropped = 0;
+        for (final var entry : buckets.entrySet()) {
+            if (tokensAt(entry.getValue().get(), now) >= capacity && buckets.remove(entry.getKey(), entry.getValue())) {
+                clients.decrementAndGet();
+                dropped++;
+            }
+        }
+        return dropped > 0;
+    }
+
+    private double tokensAt(Bucket bucket, long now) {
+        return Math.min(capacity, bucket.tokens() + Math.max(0, now - bucket.updatedAt()) * tokensPerNano);
+    }
+
+    private record Bucket(double tokens, long updatedAt) {}
+}
@@ -0,0 +1,90 @@
+package com.reliaquest.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.config.MockEmployeeGenerator.Profile;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final Profile UNIFORM = new Profile(1.0, 0.0, 0);
+
+    @Test
+    void whenGeneratedTwiceWithTheSameSeed_thenRostersAreIdentical() {
+        final var count = MockEmployeeGenerator.CHUNK_SIZE * 2 + 17;
+
+        final var first = generate(42, UNIFORM, count);
+        final var second = generate(42, UNIFORM, count);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(generate(43, UNIFORM, count)).isNotEqualTo(first);
+    }
+
+    @Test
+    void whenGenerated_thenSizeAndFieldRangesAreHonoured() {
+        final var count = MockEmployeeGenerator.CHUNK_SIZE + 1;
+
+        final var employees = generate(7, UNIFORM, count);
+
+        assertThat(employees).hasSize(count);
+        assertThat(employees).extracting(MockEmployee::getId).doesNotHaveDuplicates();
+        assertThat(employees).allSatisfy(mockEmployee -> {
+            assertThat(mockEmployee.getId().version()).isEqualTo(4);
+            assertThat(mockEmployee.getName()).isNotBlank();
+            assertThat(mockEmployee.getSalary())
+                    .isBetween(MockEmployeeGenerator.MIN_SALARY, MockEmployeeGenerator.MAX_SALARY);
+            assertThat(mockEmployee.getAge())
+                    .isGreaterThanOrEqualTo(MockEmployeeGenerator.MIN_AGE)
+                    .isLessThan(MockEmployeeGenerator.MAX_AGE);
+            assertThat(mockEmployee.getEmail()).endsWith("@company.com");
+        });
+        assertThat(generate(7, UNIFORM, 0)).isEmpty();
+    }
+
+    @Test
+    void whenSalarySkewIsRaised_thenSalariesPileUpTowardsTheBottomOfTheRange() {
+        final var range = MockEmployeeGenerator.MAX_SALARY - MockEmployeeGenerator.MIN_SALARY;
+
+        final var uniform = averageSalary(generate(1, UNIFORM, 5_000)) - MockEmployeeGenerator.MIN_SALARY;
+        final var skewed =
+                averageSalary(generate(1, new Profile(4.0, 0.0, 0), 5_000)) - MockEmployeeGenerator.MIN_SALARY;
+
+        assertThat(uniform).isBetween(range * 0.45, range * 0.55);
+        assertThat(skewed).isBetween(range * 0.15, range * 0.25);
+    }
+
+    @Test
+    void whenTitleCardinalityIsSet_thenTitlesComeFromAPoolOfThatSize() {
+        final var employees = generate(5, new Profile(1.0, 0.0, 3), 1_000);
+
+        assertThat(employees.stream().map(MockEmployee::getTitle).distinct().count()).isBetween(1L, 3L);
+    }
+
+    @Test
+    void whenDuplicateNameRateIsSet_thenNamesAreReusedWithinAChunk() {
+        final var always = generate(9, new Profile(1.0, 1.0, 0), 100);
+        final var half = generate(9, new Profile(1.0, 0.5, 0), 1_000);
+
+        assertThat(always).extracting(MockEmployee::getName).containsOnly(always.get(0).getName());
+        assertThat(half.stream().map(MockEmployee::getName).distinct().count()).isBetween(300L, 700L);
+    }
+
+    @Test
+    void whenProfileIsOutOfRange_thenItIsRejected() {
+        assertThatThrownBy(() -> new Profile(0.0, 0.0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Profile(1.0, 1.5, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Profile(1.0, 0.0, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<MockEmployee> generate(long seed, Profile profile, int count) {
+        return new MockEmployeeGenerator(Locale.ROOT, seed, profile).generate(count);
+    }
+
+    private static double averageSalary(List<MockEmployee> employees) {
+        return employees.stream().mapToInt(MockEmployee::getSalary).average().orElseThrow();
+    }
+}
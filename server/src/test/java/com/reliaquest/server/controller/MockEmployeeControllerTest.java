@@ -0,0 +1,117 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.service.MockEmployeeStore;
+import java.util.List;
+import java.util.Locale;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private MockEmployeeStore mockEmployeeStore;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeStore = new MockEmployeeStore(List.of());
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MockEmployeeController(new MockEmployeeService(new Faker(Locale.ROOT), mockEmployeeStore)))
+                .setControllerAdvice(new MockEmployeeControllerAdvice())
+                .build();
+    }
+
+    @Test
+    void whenBatchCreated_thenEmployeesAreReturnedInInputOrderAndStored() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[" + input("Ann", 30) + "," + input("Bob", 40) + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Ann"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Bob"))
+                .andExpect(jsonPath("$.data[1].employee_age").value(40));
+
+        assertThat(mockEmployeeStore.size()).isEqualTo(2);
+    }
+
+    @Test
+    void whenOneBatchInputIsInvalid_thenBatchIsRejectedWith400AndNothingIsStored() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[" + input("Ann", 30) + "," + input("Bob", 10) + "]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(startsWith("employees[1].age ")));
+
+        assertThat(mockEmployeeStore.size()).isZero();
+    }
+
+    @Test
+    void whenBatchIsEmptyOrHasABlankName_thenItIsRejectedWith400() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[{\"name\":\"\"}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void whenBatchDeleted_thenEachNameGetsItsOwnResult() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[" + input("Ann", 30) + "," + input("Bob", 40) + "]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[{\"name\":\"bob\"},{\"name\":\"Nobody\"},{\"name\":\"Bob\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(3)))
+                .andExpect(jsonPath("$.data[0]").value(true))
+                .andExpect(jsonPath("$.data[1]").value(false))
+                .andExpect(jsonPath("$.data[2]").value(false));
+
+        assertThat(mockEmployeeStore.snapshot())
+                .extracting(MockEmployee::getName)
+                .containsExactly("Ann");
+    }
+
+    @Test
+    void whenLimitExceedsMaxPageSize_thenPageIsRejectedWith400() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("limit", "1001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("limit must be between 1 and 1000"));
+        mockMvc.perform(get("/api/v1/employee").param("limit", "1000")).andExpect(status().isOk());
+    }
+
+    @Test
+    void whenCursorIsMalformed_thenPageIsRejectedWith400() throws Exception {
+        mockMvc.perform(get("/api/v1/employee").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(startsWith("Invalid cursor")));
+        mockMvc.perform(get("/api/v1/employee").param("limit", "1").param("partitions", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String input(String name, int age) {
+        return "{\"name\":\"%s\",\"salary\":1000,\"age\":%d,\"title\":\"Engineer\"}".formatted(name, age);
+    }
+}
@@ -0,0 +1,56 @@
+package com.reliaquest.server.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCursorTest {
+
+    @Test
+    void whenEncodedAndDecoded_thenPartitionAndPositionRoundTrip() {
+        final var cursor = EmployeeCursor.start(3, 8).advanceTo(UUID.randomUUID());
+
+        final var encoded = cursor.encode();
+
+        assertThat(EmployeeCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(encoded).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void whenCursorIsMalformed_thenDecodeFailsWithIllegalArgument() {
+        assertThatThrownBy(() -> EmployeeCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmployeeCursor.decode(encode("1:2")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid cursor");
+        assertThatThrownBy(() -> EmployeeCursor.decode(encode("x:2:" + UUID.randomUUID())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmployeeCursor.decode(encode("0:1:not-a-uuid")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmployeeCursor.decode(encode("2:2:" + UUID.randomUUID())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmployeeCursor.decode(encode("0:65:" + UUID.randomUUID())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void whenPartitioned_thenRangesAreContiguousAndCoverEveryId() {
+        final var partitions = 7;
+
+        assertThat(EmployeeCursor.start(0, partitions).lowerBound()).isEqualTo(new UUID(Long.MIN_VALUE, Long.MIN_VALUE));
+        for (int partition = 0; partition < partitions - 1; partition++) {
+            final var upperBound = EmployeeCursor.start(partition, partitions).upperBound();
+            assertThat(upperBound).isGreaterThan(EmployeeCursor.start(partition, partitions).lowerBound());
+            assertThat(EmployeeCursor.start(partition + 1, partitions).lowerBound()).isEqualTo(upperBound);
+        }
+        assertThat(EmployeeCursor.start(partitions - 1, partitions).upperBound()).isNull();
+        assertThat(EmployeeCursor.start(0, 1).upperBound()).isNull();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.EmployeeCursor;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private MockEmployeeStore mockEmployeeStore;
+
+    private MockEmployeeService mockEmployeeService;
+
+    @BeforeEach
+    void setUp() {
+        mockEmployeeStore = new MockEmployeeStore(List.of());
+        mockEmployeeService = new MockEmployeeService(new Faker(Locale.ROOT), mockEmployeeStore);
+    }
+
+    @Test
+    void whenCreatedAll_thenResultsAreInInputOrderAndEachIsStored() {
+        final var created = mockEmployeeService.createAll(List.of(input("Ann"), input("Bob"), input("Ann")));
+
+        assertThat(created).extracting(MockEmployee::getName).containsExactly("Ann", "Bob", "Ann");
+        assertThat(created).extracting(MockEmployee::getId).doesNotHaveDuplicates();
+        assertThat(created).allSatisfy(mockEmployee -> {
+            assertThat(mockEmployee.getEmail()).endsWith("@company.com");
+            assertThat(mockEmployeeService.findById(mockEmployee.getId())).contains(mockEmployee);
+        });
+        assertThat(mockEmployeeStore.size()).isEqualTo(3);
+    }
+
+    @Test
+    void whenDeletedAll_thenEachNameRemovesAtMostOneEmployeeInInputOrder() {
+        final var created = mockEmployeeService.createAll(List.of(input("Ann"), input("Bob"), input("Ann")));
+
+        final var removed = mockEmployeeService.deleteAll(
+                List.of(delete("ANN"), delete("Nobody"), delete("ann"), delete("ann"), delete("Bob")));
+
+        assertThat(removed).containsExactly(true, false, true, false, true);
+        assertThat(mockEmployeeStore.size()).isZero();
+        assertThat(created).allSatisfy(mockEmployee ->
+                assertThat(mockEmployeeService.findById(mockEmployee.getId())).isEmpty());
+    }
+
+    @Test
+    void whenRemovedAllByName_thenTheEarliestIndexedMatchGoesFirst() {
+        final var created = mockEmployeeService.createAll(List.of(input("Ann"), input("Ann")));
+
+        final var removed = mockEmployeeStore.removeAllByName(List.of("ann", "missing"));
+
+        assertThat(removed).hasSize(2);
+        assertThat(removed.get(0)).contains(created.get(0));
+        assertThat(removed.get(1)).isEmpty();
+        assertThat(mockEmployeeStore.snapshot()).containsExactly(created.get(1));
+    }
+
+    @Test
+    void whenPagedAcrossPartitionsDuringInsertsAndDeletes_thenNoStableEmployeeIsLostOrRepeated() throws Exception {
+        final var stable = mockEmployeeService.createAll(
+                IntStream.range(0, 2_000).mapToObj(i -> input("stable-" + i)).toList());
+        final var stop = new AtomicBoolean();
+        final var churn = CompletableFuture.runAsync(() -> {
+            while (!stop.get()) {
+                mockEmployeeService.createAll(List.of(input("churn"), input("churn"), input("churn")));
+                mockEmployeeService.deleteAll(List.of(delete("churn"), delete("churn")));
+            }
+        });
+
+        final var seen = new ArrayList<UUID>();
+        try {
+            final var partitions = 8;
+            for (int partition = 0; partition < partitions; partition++) {
+                var cursor = EmployeeCursor.start(partition, partitions);
+                UUID previous = null;
+                while (cursor != null) {
+                    final var page = mockEmployeeService.getPage(cursor, 37);
+                    for (final var mockEmployee : page.employees()) {
+                        final var id = mockEmployee.getId();
+                        assertThat(id).isGreaterThanOrEqualTo(cursor.lowerBound());
+                        if (cursor.upperBound() != null) {
+                            assertThat(id).isLessThan(cursor.upperBound());
+                        }
+                        if (previous != null) {
+                            assertThat(id).isGreaterThan(previous);
+                        }
+                        previous = id;
+                        seen.add(id);
+                    }
+                    cursor = page.nextCursor() == null ? null : EmployeeCursor.decode(page.nextCursor());
+                }
+            }
+        } finally {
+            stop.set(true);
+            churn.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(seen).doesNotHaveDuplicates();
+        assertThat(new HashSet<>(seen)).containsAll(stable.stream().map(MockEmployee::getId).toList());
+    }
+
+    @Test
+    void whenPageLimitIsOutOfRange_thenItIsRejected() {
+        final var cursor = EmployeeCursor.start(0, 1);
+
+        assertThatThrownBy(() -> mockEmployeeService.getPage(cursor, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> mockEmployeeService.getPage(cursor, 1_001))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("limit must be between 1 and 1000");
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(1000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput delete(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
@@ -0,0 +1,147 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeSnapshotFileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void whenWrittenAndOpened_thenEveryFieldRoundTripsIncludingNulls() throws IOException {
+        final var employees = sorted(
+                employee(1, "Luke Skywalker", 150000, 30, "Jedi", "luke@company.com"),
+                new MockEmployee(id(2), null, null, null, null, null),
+                employee(3, "Zoë Ünïcode", 1, 99, "", "zoe@company.com"));
+
+        final var file = writeAndOpen(employees);
+
+        assertThat(file.size()).isEqualTo(3);
+        assertThat(toList(file.iterator(null, true))).isEqualTo(employees);
+        assertThat(file.find(id(2))).isEqualTo(employees.get(1));
+    }
+
+    @Test
+    void whenLookedUp_thenFindAndContainsHandleBothEdgesAndMisses() throws IOException {
+        final var employees = sorted(employee(10), employee(20), employee(30));
+
+        final var file = writeAndOpen(employees);
+
+        assertThat(file.find(id(10))).isEqualTo(employees.get(0));
+        assertThat(file.find(id(30))).isEqualTo(employees.get(2));
+        assertThat(file.contains(id(10))).isTrue();
+        assertThat(file.contains(id(30))).isTrue();
+        assertThat(file.find(id(5))).isNull();
+        assertThat(file.find(id(25))).isNull();
+        assertThat(file.contains(id(35))).isFalse();
+    }
+
+    @Test
+    void whenIteratedFromAnId_thenInclusiveAndExclusiveStartsAreHonouredAtBothEdges() throws IOException {
+        final var file = writeAndOpen(sorted(employee(10), employee(20), employee(30)));
+
+        assertThat(ids(file.iterator(id(10), true))).containsExactly(id(10), id(20), id(30));
+        assertThat(ids(file.iterator(id(10), false))).containsExactly(id(20), id(30));
+        assertThat(ids(file.iterator(id(30), true))).containsExactly(id(30));
+        assertThat(ids(file.iterator(id(30), false))).isEmpty();
+        assertThat(ids(file.iterator(id(5), false))).containsExactly(id(10), id(20), id(30));
+        assertThat(ids(file.iterator(id(25), true))).containsExactly(id(30));
+        assertThat(ids(file.iterator(id(35), true))).isEmpty();
+    }
+
+    @Test
+    void whenEmpty_thenOpensWithNoRecords() throws IOException {
+        final var file = writeAndOpen(List.of());
+
+        assertThat(file.size()).isZero();
+        assertThat(file.iterator(null, true).hasNext()).isFalse();
+        assertThat(file.contains(id(1))).isFalse();
+    }
+
+    @Test
+    void whenParentDirectoryIsMissing_thenItIsCreated() throws IOException {
+        final var path = directory.resolve("nested/deeper/employees.snapshot");
+
+        MockEmployeeSnapshotFile.write(path, 1, List.of(employee(1)).iterator());
+
+        assertThat(MockEmployeeSnapshotFile.open(path).find(id(1))).isEqualTo(employee(1));
+    }
+
+    @Test
+    void whenIteratorYieldsMoreThanCount_thenWriteFailsAndLeavesNoFile() throws IOException {
+        final var path = directory.resolve("employees.snapshot");
+
+        assertThatThrownBy(() -> MockEmployeeSnapshotFile.write(
+                        path, 1, sorted(employee(1), employee(2)).iterator()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(path).doesNotExist();
+        try (final var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void whenIteratorYieldsFewerThanCount_thenWriteFails() {
+        final var path = directory.resolve("employees.snapshot");
+
+        assertThatThrownBy(() -> MockEmployeeSnapshotFile.write(
+                        path, 2, List.of(employee(1)).iterator()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(path).doesNotExist();
+    }
+
+    @Test
+    void whenFileIsNotASnapshot_thenOpenFails() throws IOException {
+        final var path = Files.write(directory.resolve("garbage"), new byte[64]);
+
+        assertThatThrownBy(() -> MockEmployeeSnapshotFile.open(path)).isInstanceOf(IOException.class);
+    }
+
+    private MockEmployeeSnapshotFile writeAndOpen(List<MockEmployee> employees) throws IOException {
+        final var path = directory.resolve("employees.snapshot");
+        MockEmployeeSnapshotFile.write(path, employees.size(), employees.iterator());
+        return MockEmployeeSnapshotFile.open(path);
+    }
+
+    static UUID id(long value) {
+        return new UUID(0, value);
+    }
+
+    static MockEmployee employee(long id) {
+        return employee(
+                id, "name-" + id, (int) id * 1000, 20 + (int) id % 40, "title-" + id, "e" + id + "@company.com");
+    }
+
+    private static MockEmployee employee(long id, String name, int salary, int age, String title, String email) {
+        return new MockEmployee(id(id), name, salary, age, title, email);
+    }
+
+    private static List<MockEmployee> sorted(MockEmployee... employees) {
+        final var list = new ArrayList<>(List.of(employees));
+        list.sort(Comparator.comparing(MockEmployee::getId));
+        return list;
+    }
+
+    static List<MockEmployee> toList(Iterator<MockEmployee> employees) {
+        final var list = new ArrayList<MockEmployee>();
+        employees.forEachRemaining(list::add);
+        return list;
+    }
+
+    private static List<UUID> ids(Iterator<MockEmployee> employees) {
+        return toList(employees).stream().map(MockEmployee::getId).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.reliaquest.server.service;
+
+import static com.reliaquest.server.service.MockEmployeeSnapshotFileTest.employee;
+import static com.reliaquest.server.service.MockEmployeeSnapshotFileTest.id;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MockEmployeeSnapshotterTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void whenDumpedAfterOverlayWritesAndBaseDeletes_thenReopenedStoreHasTheSameRoster() throws IOException {
+        final var first = directory.resolve("first.snapshot");
+        new MockEmployeeStore(List.of(employee(10), employee(20), employee(30))).dump(first);
+        final var store = MockEmployeeStore.open(first);
+
+        store.add(employee(15));
+        store.add(employee(20).toBuilder().name("renamed").salary(1).build());
+        store.add(new MockEmployee(id(40), null, null, null, null, null));
+        assertThat(store.removeByName("name-10")).isPresent();
+        assertThat(store.removeByName("name-15")).isPresent();
+
+        final var second = directory.resolve("second.snapshot");
+        store.dump(second);
+        final var reopened = MockEmployeeStore.open(second);
+
+        assertThat(reopened.size()).isEqualTo(3);
+        assertThat(reopened.snapshot()).isEqualTo(store.snapshot());
+        assertThat(reopened.snapshot()).extracting(MockEmployee::getId).containsExactly(id(20), id(30), id(40));
+        assertThat(reopened.findById(id(20)).orElseThrow().getName()).isEqualTo("renamed");
+        assertThat(reopened.findById(id(10))).isEmpty();
+        assertThat(reopened.removeByName("RENAMED")).isPresent();
+        assertThat(reopened.size()).isEqualTo(2);
+    }
+
+    @Test
+    void whenShutDownWithSnapshotPath_thenStoreIsSavedThere() throws IOException {
+        final var store = new MockEmployeeStore(List.of(employee(1), employee(2)));
+        final var path = directory.resolve("snapshots/employees.snapshot");
+        final var snapshotter = new MockEmployeeSnapshotter(store);
+        ReflectionTestUtils.setField(snapshotter, "snapshotPath", path.toString());
+
+        snapshotter.saveOnShutdown();
+
+        assertThat(MockEmployeeStore.open(path).snapshot()).isEqualTo(store.snapshot());
+    }
+
+    @Test
+    void whenSaveOnShutdownIsDisabled_thenNothingIsWritten() {
+        final var snapshotter = new MockEmployeeSnapshotter(new MockEmployeeStore(List.of(employee(1))));
+        final var path = directory.resolve("employees.snapshot");
+        ReflectionTestUtils.setField(snapshotter, "snapshotPath", path.toString());
+        ReflectionTestUtils.setField(snapshotter, "saveOnShutdown", false);
+
+        snapshotter.saveOnShutdown();
+
+        assertThat(path).doesNotExist();
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.server.service;
+
+import static com.reliaquest.server.service.MockEmployeeSnapshotFileTest.employee;
+import static com.reliaquest.server.service.MockEmployeeSnapshotFileTest.id;
+import static com.reliaquest.server.service.MockEmployeeSnapshotFileTest.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void whenOverlayRewritesABaseEmployee_thenOverlayWinsForLookupIterationAndSize() throws IOException {
+        final var store = openWith(employee(10), employee(20), employee(30));
+        final var renamed = employee(20).toBuilder().name("renamed").salary(1).build();
+
+        store.add(renamed);
+        store.add(employee(25));
+
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.findById(id(20))).contains(renamed);
+        assertThat(store.findById(id(10))).contains(employee(10));
+        assertThat(store.snapshot()).containsExactly(employee(10), renamed, employee(25), employee(30));
+        assertThat(toList(store.iterator(id(20), false))).containsExactly(employee(25), employee(30));
+    }
+
+    @Test
+    void whenBaseEmployeeIsDeleted_thenItIsGoneEverywhereAndMayBeWrittenAgain() throws IOException {
+        final var store = openWith(employee(10), employee(20), employee(30));
+
+        assertThat(store.removeByName("NAME-20")).contains(employee(20));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.findById(id(20))).isEmpty();
+        assertThat(store.snapshot()).extracting(MockEmployee::getId).containsExactly(id(10), id(30));
+        assertThat(toList(store.iterator(id(10), false))).containsExactly(employee(30));
+        assertThat(store.removeByName("name-20")).isEmpty();
+
+        store.add(employee(20));
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.findById(id(20))).contains(employee(20));
+        assertThat(store.removeByName("name-20")).contains(employee(20));
+        assertThat(store.findById(id(20))).isEmpty();
+    }
+
+    @Test
+    void whenNamesChangeThroughWrites_thenDeleteByNameFollowsTheCurrentNames() throws IOException {
+        final var store = openWith(employee(10), employee(20));
+
+        store.add(employee(10).toBuilder().name("Ann").build());
+        final var otherAnn = new MockEmployee(id(5), "ann", 1, 30, "title", "ann@company.com");
+        store.add(otherAnn);
+        store.add(new MockEmployee(id(40), null, null, null, null, null));
+
+        assertThat(store.removeByName("name-10")).isEmpty();
+        assertThat(store.removeByName("ANN").map(MockEmployee::getId)).contains(id(10));
+        assertThat(store.removeAllByName(List.of("ann", "ann", "name-20")))
+                .containsExactly(Optional.of(otherAnn), Optional.empty(), Optional.of(employee(20)));
+        assertThat(store.snapshot()).extracting(MockEmployee::getId).containsExactly(id(40));
+    }
+
+    @Test
+    void whenDumpedAfterCrudAndReopened_thenTheReopenedStoreMatchesAndStaysWritable() throws IOException {
+        final var store = openWith(employee(10), employee(20), employee(30));
+        store.add(employee(15));
+        store.add(employee(30).toBuilder().title("promoted").build());
+        assertThat(store.removeByName("name-10")).isPresent();
+        assertThat(store.removeByName("name-15")).isPresent();
+
+        final var path = directory.resolve("dumped.snapshot");
+        store.dump(path);
+        final var reopened = MockEmployeeStore.open(path);
+
+        assertThat(reopened.size()).isEqualTo(store.size()).isEqualTo(2);
+        assertThat(reopened.snapshot()).isEqualTo(store.snapshot());
+        assertThat(reopened.findById(id(30)).orElseThrow().getTitle()).isEqualTo("promoted");
+        assertThat(reopened.findById(id(10))).isEmpty();
+        assertThat(reopened.findById(id(15))).isEmpty();
+
+        reopened.add(employee(50));
+        assertThat(reopened.removeByName("name-20")).contains(employee(20));
+        assertThat(reopened.snapshot()).extracting(MockEmployee::getId).containsExactly(id(30), id(50));
+        assertThat(store.snapshot()).extracting(MockEmployee::getId).containsExactly(id(20), id(30));
+    }
+
+    private MockEmployeeStore openWith(MockEmployee... employees) throws IOException {
+        final var path = directory.resolve("base.snapshot");
+        new MockEmployeeStore(List.of(employees)).dump(path);
+        return MockEmployeeStore.open(path);
+    }
+}
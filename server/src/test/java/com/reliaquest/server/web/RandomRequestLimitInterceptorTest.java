@@ -0,0 +1,99 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RandomRequestLimitInterceptorTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void whenLimitIsReached_thenRefusedUntilBackoffHasPassed() {
+        final var interceptor = new RandomRequestLimitInterceptor(3, Duration.ofSeconds(10), clock);
+
+        assertThat(handle(interceptor).getHeader(RateLimitHeaders.REMAINING)).isEqualTo("2");
+        assertThat(handle(interceptor).getHeader(RateLimitHeaders.REMAINING)).isEqualTo("1");
+        assertThat(handle(interceptor).getHeader(RateLimitHeaders.REMAINING)).isEqualTo("0");
+        final var refused = handle(interceptor);
+        assertThat(refused.getStatus()).isEqualTo(429);
+        assertThat(refused.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+
+        clock.advance(Duration.ofMillis(9500));
+        assertThat(handle(interceptor).getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        clock.advance(Duration.ofMillis(500));
+        final var allowed = handle(interceptor);
+        assertThat(allowed.getStatus()).isEqualTo(200);
+        assertThat(allowed.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("2");
+    }
+
+    @Test
+    void whenRequestsRace_thenExactlyTheLimitIsAllowed() {
+        final var interceptor = new RandomRequestLimitInterceptor(50, Duration.ofSeconds(10), clock);
+        final var allowed = new AtomicInteger();
+
+        CompletableFuture.allOf(IntStream.range(0, 500)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            if (handle(interceptor).getStatus() == 200) {
+                                allowed.incrementAndGet();
+                            }
+                        }))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        assertThat(allowed).hasValue(50);
+    }
+
+    @Test
+    void whenDrawnAtRandom_thenLimitIsWithinTheOriginalRange() {
+        final var interceptor = new RandomRequestLimitInterceptor();
+        var allowed = 0;
+        while (handle(interceptor).getStatus() == 200) {
+            allowed++;
+        }
+
+        assertThat(allowed).isBetween(5, 9);
+    }
+
+    private static MockHttpServletResponse handle(RandomRequestLimitInterceptor interceptor) {
+        final var response = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest(), response, null);
+        return response;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
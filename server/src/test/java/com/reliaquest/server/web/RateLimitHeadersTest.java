@@ -0,0 +1,46 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RateLimitHeadersTest {
+
+    @Test
+    void whenAllowed_thenRemainingIsSetAndNeverNegative() {
+        final var response = new MockHttpServletResponse();
+
+        assertThat(RateLimitHeaders.allow(response, 3)).isTrue();
+        assertThat(response.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("3");
+
+        RateLimitHeaders.allow(response, -1);
+        assertThat(response.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("0");
+    }
+
+    @Test
+    void whenRejected_thenRetryAfterIsRoundedUpToWholeSeconds() {
+        assertThat(retryAfter(Duration.ZERO)).isEqualTo("1");
+        assertThat(retryAfter(Duration.ofMillis(1))).isEqualTo("1");
+        assertThat(retryAfter(Duration.ofSeconds(1))).isEqualTo("1");
+        assertThat(retryAfter(Duration.ofMillis(1001))).isEqualTo("2");
+        assertThat(retryAfter(Duration.ofSeconds(90))).isEqualTo("90");
+    }
+
+    @Test
+    void whenRejected_thenStatusIs429WithNothingRemaining() {
+        final var response = new MockHttpServletResponse();
+
+        assertThat(RateLimitHeaders.reject(response, Duration.ofSeconds(2))).isFalse();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("0");
+    }
+
+    private static String retryAfter(Duration duration) {
+        final var response = new MockHttpServletResponse();
+        RateLimitHeaders.reject(response, duration);
+        return response.getHeader(HttpHeaders.RETRY_AFTER);
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TokenBucketRequestLimitInterceptorTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void whenBucketIsDrained_thenRefusedUntilATokenHasRefilled() {
+        final var interceptor = interceptor(2, 1, 10);
+
+        assertThat(handle(interceptor, "a").getHeader(RateLimitHeaders.REMAINING))
+                .isEqualTo("1");
+        assertThat(handle(interceptor, "a").getHeader(RateLimitHeaders.REMAINING))
+                .isEqualTo("0");
+        final var refused = handle(interceptor, "a");
+        assertThat(refused.getStatus()).isEqualTo(429);
+        assertThat(refused.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        advance(600);
+        assertThat(handle(interceptor, "a").getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        advance(400);
+        final var allowed = handle(interceptor, "a");
+        assertThat(allowed.getStatus()).isEqualTo(200);
+        assertThat(allowed.getHeader(RateLimitHeaders.REMAINING)).isEqualTo("0");
+    }
+
+    @Test
+    void whenRefillIsSlow_thenRetryAfterCoversTheWholeWait() {
+        final var interceptor = interceptor(1, 0.25, 10);
+
+        handle(interceptor, "a");
+
+        assertThat(handle(interceptor, "a").getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("4");
+        advance(2500);
+        assertThat(handle(interceptor, "a").getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+    }
+
+    @Test
+    void whenIdleForLong_thenTokensAreCappedAtCapacity() {
+        final var interceptor = interceptor(2, 1, 10);
+
+        handle(interceptor, "a");
+        advance(60_000);
+
+        assertThat(handle(interceptor, "a").getHeader(RateLimitHeaders.REMAINING))
+                .isEqualTo("1");
+    }
+
+    @Test
+    void whenClientsDiffer_thenEachHasItsOwnBucket() {
+        final var interceptor = interceptor(1, 1, 10);
+
+        assertThat(handle(interceptor, "a").getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, "a").getStatus()).isEqualTo(429);
+        assertThat(handle(interceptor, "b").getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, null).getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, " ").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void whenRequestsRaceOnOneBucket_thenExactlyCapacityAreAllowed() {
+        final var interceptor = interceptor(100, 1, 10);
+        final var allowed = new AtomicInteger();
+
+        CompletableFuture.allOf(IntStream.range(0, 1000)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            if (handle(interceptor, "a").getStatus() == 200) {
+                                allowed.incrementAndGet();
+                            }
+                        }))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        assertThat(allowed).hasValue(100);
+    }
+
+    @Test
+    void whenMaxClientsAreInUse_thenNewClientsAreRefusedUntilIdleBucketsAreSwept() {
+        final var interceptor = interceptor(1, 1, 2);
+        handle(interceptor, "a");
+        handle(interceptor, "b");
+
+        final var refused = handle(interceptor, "c");
+        assertThat(refused.getStatus()).isEqualTo(429);
+        assertThat(refused.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(handle(interceptor, "d").getStatus()).isEqualTo(429);
+
+        advance(1000);
+        assertThat(handle(interceptor, "c").getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, "d").getStatus()).isEqualTo(200);
+        assertThat(handle(interceptor, "e").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void whenManyNewClientsRace_thenNoMoreThanMaxClientsAreTracked() {
+        final var interceptor = interceptor(1, 1, 10);
+        final var allowed = new AtomicInteger();
+
+        CompletableFuture.allOf(IntStream.range(0, 1000)
+                        .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                            if (handle(interceptor, "client-" + i).getStatus() == 200) {
+                                allowed.incrementAndGet();
+                            }
+                        }))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        assertThat(allowed).hasValue(10);
+    }
+
+    @Test
+    void whenConfigurationIsInvalid_thenRejected() {
+        assertThatThrownBy(() -> interceptor(0, 1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> interceptor(1, 0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> interceptor(1, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TokenBucketRequestLimitInterceptor interceptor(long capacity, double refillPerSecond, int maxClients) {
+        return new TokenBucketRequestLimitInterceptor(capacity, refillPerSecond, CLIENT_HEADER, maxClients, nanos::get);
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static MockHttpServletResponse handle(TokenBucketRequestLimitInterceptor interceptor, String client) {
+        final var request = new MockHttpServletRequest();
+        if (client != null) {
+            request.addHeader(CLIENT_HEADER, client);
+        }
+        final var response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        return response;
+    }
+}